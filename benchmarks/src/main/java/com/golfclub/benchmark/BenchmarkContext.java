@@ -0,0 +1,177 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.GolfClubApplication;
+import com.golfclub.model.Tournament;
+import com.golfclub.service.TournamentService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Boots the application against an in-memory H2 database in MySQL mode and seeds it in bulk.
+// -Dbench.jdbc.url (with bench.jdbc.user / bench.jdbc.password) points it at a MySQL server instead;
+// its tables are dropped and recreated.
+final class BenchmarkContext implements AutoCloseable {
+    private static final String[] SURNAMES = {"Smith", "Walsh", "Murphy", "Power", "Kelly", "Byrne", "Ryan", "Hynes"};
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    private final ConfigurableApplicationContext context;
+    private final JdbcTemplate jdbcTemplate;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    static BenchmarkContext start(String... overrides) {
+        return start(new SpringApplicationBuilder(GolfClubApplication.class).web(WebApplicationType.NONE), true, overrides);
+    }
+
+    // Keeps the application's own SQL and logging settings (and those of any profile in the overrides)
+    static BenchmarkContext startWithAppLogging(String... overrides) {
+        return start(new SpringApplicationBuilder(GolfClubApplication.class).web(WebApplicationType.NONE), false, overrides);
+    }
+
+    // Full web server on a random port; every JDBC statement is delayed to stand in for a slow database
+    static BenchmarkContext startWeb(long statementLatencyMillis, String... overrides) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(GolfClubApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource
+                                ? SlowStatements.wrap(dataSource, statementLatencyMillis)
+                                : bean;
+                    }
+                }));
+        List<String> args = new ArrayList<>(List.of("--server.port=0"));
+        args.addAll(List.of(overrides));
+        return start(builder, true, args.toArray(String[]::new));
+    }
+
+    private static BenchmarkContext start(SpringApplicationBuilder builder, boolean quiet, String... overrides) {
+        // Command-line arguments outrank application.properties, which points at the MySQL container
+        List<String> args = new ArrayList<>(dataSourceArgs());
+        // Hibernate recreates the tables (and the indexes the entities mirror) for every trial instead of migrating
+        args.addAll(List.of(
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.main.banner-mode=off",
+                "--golfclub.membership-expiry.enabled=false"));
+        if (quiet) {
+            args.addAll(List.of(
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.org.springframework=WARN",
+                    "--logging.level.com.golfclub=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        }
+        args.addAll(List.of(overrides));
+        return new BenchmarkContext(builder.run(args.toArray(String[]::new)));
+    }
+
+    private static List<String> dataSourceArgs() {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url != null) {
+            return List.of("--spring.datasource.url=" + url,
+                    "--spring.datasource.username=" + System.getProperty("bench.jdbc.user", "golfuser"),
+                    "--spring.datasource.password=" + System.getProperty("bench.jdbc.password", "golfpass"));
+        }
+        // H2 rejects connection properties it does not know, such as the MySQL driver settings of the prod profile
+        return List.of("--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE"
+                        + ";IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+    }
+
+    int port() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    // Inserts ACTIVE members with unique emails and phones and returns their ids in insertion order.
+    // Start dates span the past year and durations 1-47 months, so membership end dates are spread out.
+    List<Long> seedMembers(int count) {
+        LocalDate today = LocalDate.now();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            LocalDate startDate = today.minusDays(i % 365);
+            int duration = 1 + i % 47;
+            batch.add(new Object[]{memberName(i), "Town " + (i % 100), "member" + i + "@bench.golf", memberPhone(i),
+                    startDate, duration, startDate.plusMonths(duration)});
+            if (batch.size() == INSERT_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO members (member_name, member_address, member_email, member_phone, " +
+                        "start_date, duration, membership_end_date, status, total_tournaments_played, total_winnings, " +
+                        "version) VALUES (?, ?, ?, ?, ?, ?, ?, 'ACTIVE', 0, 0, 0)", batch);
+                batch.clear();
+            }
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM members ORDER BY id", Long.class);
+    }
+
+    void clearCaches() {
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // Scheduled tournaments starting next year, each with room for the given number of players
+    List<Long> seedTournaments(int count, int maximumParticipants) {
+        TournamentService tournamentService = context.getBean(TournamentService.class);
+        List<Long> ids = new ArrayList<>(count);
+        LocalDate startDate = LocalDate.now().plusYears(1);
+        for (int i = 0; i < count; i++) {
+            Tournament tournament = new Tournament(startDate.plusDays(i % 300), startDate.plusDays(i % 300 + 2),
+                    "Bench Links " + i, 50.0, 500.0);
+            tournament.setMinimumParticipants(2);
+            tournament.setMaximumParticipants(maximumParticipants);
+            ids.add(tournamentService.saveTournament(tournament).getId());
+        }
+        return ids;
+    }
+
+    // Letters only, to satisfy the member name pattern: "Bcd Smith"
+    static String memberName(int i) {
+        StringBuilder given = new StringBuilder();
+        int n = i;
+        do {
+            given.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        given.setCharAt(0, Character.toUpperCase(given.charAt(0)));
+        return given + " " + SURNAMES[i % SURNAMES.length];
+    }
+
+    static String memberPhone(int i) {
+        return String.format("%03d-%03d-%04d", 200 + i / 10_000_000 % 800, i / 10_000 % 1000, i % 10_000);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
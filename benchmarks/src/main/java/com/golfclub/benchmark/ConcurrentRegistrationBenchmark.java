@@ -0,0 +1,68 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.service.RegistrationExecutor;
+import com.golfclub.service.TournamentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Contended sign-up and withdrawal through RegistrationExecutor, as the controller drives it
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class ConcurrentRegistrationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Club {
+        // One tournament puts every thread on the same lock stripe and seat counter
+        @Param({"1", "8"})
+        public int tournaments;
+
+        BenchmarkContext context;
+        TournamentService tournamentService;
+        RegistrationExecutor registrationExecutor;
+        List<Long> tournamentIds;
+        List<Long> memberIds;
+        final AtomicInteger threads = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContext.start();
+            tournamentService = context.bean(TournamentService.class);
+            registrationExecutor = context.bean(RegistrationExecutor.class);
+            memberIds = context.seedMembers(100);
+            tournamentIds = context.seedTournaments(tournaments, 100);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        Long tournamentId;
+        Long memberId;
+
+        @Setup(Level.Trial)
+        public void setUp(Club club) {
+            int thread = club.threads.getAndIncrement();
+            tournamentId = club.tournamentIds.get(thread % club.tournaments);
+            memberId = club.memberIds.get(thread);
+        }
+    }
+
+    @Benchmark
+    public Object signUpAndWithdraw(Club club, Player player) {
+        club.registrationExecutor.execute(player.tournamentId,
+                () -> club.tournamentService.addMemberToTournament(player.tournamentId, player.memberId));
+        return club.registrationExecutor.execute(player.tournamentId,
+                () -> club.tournamentService.removeMemberFromTournament(player.tournamentId, player.memberId));
+    }
+}
@@ -0,0 +1,104 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.dto.KeysetPage;
+import com.golfclub.dto.RegistrationResult;
+import com.golfclub.model.Member;
+import com.golfclub.service.MemberService;
+import com.golfclub.service.TournamentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Database-bound service calls with the application's real logging: the default settings (show-sql, SQL at DEBUG,
+// synchronous console appender) against the prod profile (async JSON appender, slow statements only).
+// Console output goes to a scratch file, as it would to a container's log pipe.
+// Throughput keeps climbing for several iterations on both paths, hence the longer warmup.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+    private static final int REGISTRATION_BATCH = 10;
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    @Param({"2000"})
+    public int tournaments;
+
+    @Param({"10000"})
+    public int members;
+
+    private BenchmarkContext context;
+    private MemberService memberService;
+    private TournamentService tournamentService;
+    private List<Long> tournamentIds;
+    private List<Long> memberIds;
+    private final AtomicInteger nextRegistration = new AtomicInteger();
+    private PrintStream originalOut;
+    private PrintStream console;
+    private Path consoleFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        consoleFile = Files.createTempFile("logging-benchmark-" + profile, ".log");
+        console = new PrintStream(new FileOutputStream(consoleFile.toFile()), true);
+        originalOut = System.out;
+        System.setOut(console);
+        context = "default".equals(profile) ? BenchmarkContext.startWithAppLogging()
+                : BenchmarkContext.startWithAppLogging("--spring.profiles.active=" + profile);
+        memberService = context.bean(MemberService.class);
+        tournamentService = context.bean(TournamentService.class);
+        memberIds = context.seedMembers(members);
+        tournamentIds = context.seedTournaments(tournaments, 100);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRegistrations() {
+        context.jdbc().update("DELETE FROM tournament_members");
+        context.jdbc().update("UPDATE tournaments SET participant_count = 0");
+        context.jdbc().update("UPDATE tournament_revenue SET participant_count = 0, revenue = 0");
+        context.clearCaches();
+        nextRegistration.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        System.setOut(originalOut);
+        console.close();
+        Files.deleteIfExists(consoleFile);
+    }
+
+    // One page of the member listing from a random position
+    @Benchmark
+    public KeysetPage<Member> readMembersPage() {
+        long afterId = memberIds.get(ThreadLocalRandom.current().nextInt(members));
+        return memberService.getMembersPage(String.valueOf(afterId), 20);
+    }
+
+    // A bulk sign-up: several statements per call, each logged under the default settings
+    @Benchmark
+    public RegistrationResult registerMembers() {
+        int i = nextRegistration.getAndIncrement();
+        int tournament = i % tournaments;
+        int first = (i / tournaments * REGISTRATION_BATCH + tournament * 37) % members;
+        List<Long> batch = new ArrayList<>(REGISTRATION_BATCH);
+        for (int j = 0; j < REGISTRATION_BATCH; j++) {
+            batch.add(memberIds.get((first + j) % members));
+        }
+        return tournamentService.registerMembers(tournamentIds.get(tournament), batch);
+    }
+}
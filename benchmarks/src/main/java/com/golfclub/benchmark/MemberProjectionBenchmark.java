@@ -0,0 +1,72 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.model.Member;
+import com.golfclub.repository.MemberRepo;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The same keyset page of members loaded as managed entities versus MemberSummary constructor projections
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberProjectionBenchmark {
+    @Param({"100000"})
+    public int members;
+
+    @Param({"100", "500"})
+    public int pageSize;
+
+    private BenchmarkContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private List<Long> memberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        entityManager = context.bean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.bean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        memberIds = context.seedMembers(members);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> entities() {
+        Long afterId = randomStart();
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT m FROM Member m WHERE m.id > :afterId ORDER BY m.id", Member.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<MemberSummary> projections() {
+        Long afterId = randomStart();
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT " + MemberRepo.SUMMARY + " FROM Member m WHERE m.id > :afterId ORDER BY m.id",
+                        MemberSummary.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .getResultList());
+    }
+
+    private Long randomStart() {
+        return memberIds.get(ThreadLocalRandom.current().nextInt(memberIds.size() - pageSize));
+    }
+}
@@ -0,0 +1,72 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.repository.MemberRepo;
+import com.golfclub.service.MemberSearchIndex;
+import com.golfclub.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Name and phone search through the trigram index versus the LIKE '%x%' database scan it replaced.
+// The 1M-member case needs a larger heap: -Djmh.args="MemberSearch -p members=1000000 -jvmArgs -Xmx6g"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class MemberSearchBenchmark {
+    private static final int LIMIT = 20;
+
+    @Param({"100000"})
+    public int members;
+
+    // A common surname, a rare given-name infix, and a phone fragment
+    @Param({"walsh", "bcd"})
+    public String name;
+
+    @Param({"001-23"})
+    public String phone;
+
+    private BenchmarkContext context;
+    private MemberService memberService;
+    private MemberRepo memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        memberService = context.bean(MemberService.class);
+        memberRepository = context.bean(MemberRepo.class);
+        context.seedMembers(members);
+        // Seeding bypasses the service, so load the index the way startup does
+        context.bean(MemberSearchIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MemberSummary> nameIndex() {
+        return memberService.searchByName(name, LIMIT);
+    }
+
+    @Benchmark
+    public List<MemberSummary> nameDatabaseScan() {
+        return memberRepository.findByMemberNameContainingIgnoreCase(name, PageRequest.of(0, LIMIT));
+    }
+
+    @Benchmark
+    public List<MemberSummary> phoneIndex() {
+        return memberService.searchByPhone(phone, LIMIT);
+    }
+
+    @Benchmark
+    public List<MemberSummary> phoneDatabaseScan() {
+        return memberRepository.findByMemberPhoneContaining(phone, PageRequest.of(0, LIMIT));
+    }
+}
@@ -0,0 +1,46 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.model.Member;
+import com.golfclub.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// MemberService.saveMember against a table already holding the configured number of members
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberServiceBenchmark {
+    @Param({"10000", "100000"})
+    public int members;
+
+    private BenchmarkContext context;
+    private MemberService memberService;
+    private AtomicInteger next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        memberService = context.bean(MemberService.class);
+        context.seedMembers(members);
+        next = new AtomicInteger(members);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member saveMember() {
+        int i = next.getAndIncrement();
+        Member member = new Member(BenchmarkContext.memberName(i), "Town " + (i % 100), "member" + i + "@bench.golf",
+                BenchmarkContext.memberPhone(i), LocalDate.now(), 12);
+        return memberService.saveMember(member);
+    }
+}
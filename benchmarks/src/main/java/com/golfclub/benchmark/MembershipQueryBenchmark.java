@@ -0,0 +1,81 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.repository.MemberRepo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Active and expiring-soon member queries: the persisted, indexed membership_end_date
+// versus recomputing start_date + duration for every row
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class MembershipQueryBenchmark {
+    private static final String ACTIVE_BY_END_DATE = "SELECT COUNT(*) FROM members " +
+            "WHERE status = 'ACTIVE' AND membership_end_date > ? AND start_date <= ?";
+    private static final String ACTIVE_BY_EXPRESSION = "SELECT COUNT(*) FROM members " +
+            "WHERE start_date <= ? AND TIMESTAMPADD(MONTH, duration, start_date) > ?";
+    private static final String EXPIRING_BY_END_DATE = "SELECT COUNT(*) FROM members " +
+            "WHERE status = 'ACTIVE' AND membership_end_date BETWEEN ? AND ?";
+    private static final String EXPIRING_BY_EXPRESSION = "SELECT COUNT(*) FROM members " +
+            "WHERE status = 'ACTIVE' AND TIMESTAMPADD(MONTH, duration, start_date) BETWEEN ? AND ?";
+
+    @Param({"200000"})
+    public int members;
+
+    @Param({"30"})
+    public int days;
+
+    private BenchmarkContext context;
+    private JdbcTemplate jdbcTemplate;
+    private MemberRepo memberRepository;
+    private LocalDate today;
+    private LocalDate horizon;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        jdbcTemplate = context.jdbc();
+        memberRepository = context.bean(MemberRepo.class);
+        context.seedMembers(members);
+        today = LocalDate.now();
+        horizon = today.plusDays(days);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long activeByEndDate() {
+        return jdbcTemplate.queryForObject(ACTIVE_BY_END_DATE, Long.class, today, today);
+    }
+
+    @Benchmark
+    public Long activeByExpression() {
+        return jdbcTemplate.queryForObject(ACTIVE_BY_EXPRESSION, Long.class, today, today);
+    }
+
+    @Benchmark
+    public Long expiringByEndDate() {
+        return jdbcTemplate.queryForObject(EXPIRING_BY_END_DATE, Long.class, today, horizon);
+    }
+
+    @Benchmark
+    public Long expiringByExpression() {
+        return jdbcTemplate.queryForObject(EXPIRING_BY_EXPRESSION, Long.class, today, horizon);
+    }
+
+    @Benchmark
+    public List<MemberSummary> expiringMembers() {
+        return memberRepository.findActiveExpiringBetween(today, horizon);
+    }
+}
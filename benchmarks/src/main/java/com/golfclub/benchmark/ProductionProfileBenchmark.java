@@ -0,0 +1,104 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.dto.MemberImportReport;
+import com.golfclub.dto.RegistrationResult;
+import com.golfclub.service.MemberImportService;
+import com.golfclub.service.TournamentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Bulk registration and member import with and without the prod profile (pool, statement caching, batching).
+// The MySQL driver settings only take effect against MySQL: run with
+// -jvmArgsAppend -Dbench.jdbc.url=jdbc:mysql://... to measure them; on H2 only the Hibernate settings apply.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductionProfileBenchmark {
+    private static final int REGISTRATION_BATCH = 20;
+    private static final int IMPORTED_MEMBER_OFFSET = 10_000_000;
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    // Tournaments are capped at 100 players, so tournaments x 5 bounds the full batches per iteration
+    @Param({"2000"})
+    public int tournaments;
+
+    @Param({"10000"})
+    public int members;
+
+    @Param({"500"})
+    public int importRows;
+
+    private BenchmarkContext context;
+    private TournamentService tournamentService;
+    private MemberImportService importService;
+    private List<Long> tournamentIds;
+    private List<Long> memberIds;
+    private final AtomicInteger nextRegistration = new AtomicInteger();
+    private final AtomicInteger nextImport = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "default".equals(profile) ? BenchmarkContext.start()
+                : BenchmarkContext.start("--spring.profiles.active=" + profile);
+        tournamentService = context.bean(TournamentService.class);
+        importService = context.bean(MemberImportService.class);
+        memberIds = context.seedMembers(members);
+        tournamentIds = context.seedTournaments(tournaments, 100);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRegistrations() {
+        context.jdbc().update("DELETE FROM tournament_members");
+        context.jdbc().update("UPDATE tournaments SET participant_count = 0");
+        context.jdbc().update("UPDATE tournament_revenue SET participant_count = 0, revenue = 0");
+        context.clearCaches();
+        nextRegistration.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // One POST /tournaments/{id}/members worth of sign-ups: 20 members who are not yet registered
+    @Benchmark
+    public RegistrationResult registerMembers() {
+        int i = nextRegistration.getAndIncrement();
+        int tournament = i % tournaments;
+        int first = (i / tournaments * REGISTRATION_BATCH + tournament * 37) % members;
+        List<Long> batch = new ArrayList<>(REGISTRATION_BATCH);
+        for (int j = 0; j < REGISTRATION_BATCH; j++) {
+            batch.add(memberIds.get((first + j) % members));
+        }
+        return tournamentService.registerMembers(tournamentIds.get(tournament), batch);
+    }
+
+    // A CSV upload of new members; every invocation imports rows that have not been seen before
+    @Benchmark
+    public MemberImportReport importMembers() throws IOException {
+        int first = IMPORTED_MEMBER_OFFSET + nextImport.getAndAdd(importRows);
+        LocalDate startDate = LocalDate.now().minusMonths(1);
+        StringBuilder csv = new StringBuilder("memberName,memberAddress,memberEmail,memberPhone,startDate,duration\n");
+        for (int i = first; i < first + importRows; i++) {
+            csv.append(BenchmarkContext.memberName(i)).append(",Town ").append(i % 100)
+                    .append(",import").append(i).append("@bench.golf,")
+                    .append(BenchmarkContext.memberPhone(i)).append(',')
+                    .append(startDate).append(",12\n");
+        }
+        return importService.importMembers(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), MemberImportService.Format.CSV);
+    }
+}
@@ -0,0 +1,62 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.model.Tournament;
+import com.golfclub.service.TournamentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Single sign-ups through TournamentService.addMemberToTournament; every invocation registers a fresh pair
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrationBenchmark {
+    // Tournaments are capped at 100 players, so tournaments x 100 bounds the sign-ups per iteration
+    @Param({"2000"})
+    public int tournaments;
+
+    @Param({"10000"})
+    public int members;
+
+    private BenchmarkContext context;
+    private TournamentService tournamentService;
+    private List<Long> tournamentIds;
+    private List<Long> memberIds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        tournamentService = context.bean(TournamentService.class);
+        memberIds = context.seedMembers(members);
+        tournamentIds = context.seedTournaments(tournaments, 100);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRegistrations() {
+        context.jdbc().update("DELETE FROM tournament_members");
+        context.jdbc().update("UPDATE tournaments SET participant_count = 0");
+        context.jdbc().update("UPDATE tournament_revenue SET participant_count = 0, revenue = 0");
+        context.clearCaches();
+        next.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Tournament addMemberToTournament() {
+        int i = next.getAndIncrement();
+        int tournament = i % tournaments;
+        // Distinct for the first 100 sign-ups of each tournament, spread across the member table
+        int member = (i / tournaments + tournament * 37) % members;
+        return tournamentService.addMemberToTournament(tournamentIds.get(tournament), memberIds.get(member));
+    }
+}
@@ -0,0 +1,45 @@
+package com.golfclub.benchmark;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+// Adds a fixed delay to every statement execution, as a database under load or across a WAN would
+final class SlowStatements {
+
+    private SlowStatements() {
+    }
+
+    static DataSource wrap(DataSource dataSource, long latencyMillis) {
+        if (latencyMillis <= 0) {
+            return dataSource;
+        }
+        return proxy(DataSource.class, dataSource, latencyMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, long latencyMillis) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("execute") && target instanceof Statement) {
+                Thread.sleep(latencyMillis);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, latencyMillis);
+            }
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                return proxy((Class<Statement>) method.getReturnType(), statement, latencyMillis);
+            }
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(SlowStatements.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
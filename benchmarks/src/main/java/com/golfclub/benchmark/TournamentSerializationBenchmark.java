@@ -0,0 +1,62 @@
+package com.golfclub.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.dto.TournamentSummary;
+import com.golfclub.model.Tournament;
+import com.golfclub.service.TournamentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON rendering of a tournament with its member set, using the application's configured ObjectMapper
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TournamentSerializationBenchmark {
+    @Param({"10", "50", "100"})
+    public int participants;
+
+    private BenchmarkContext context;
+    private ObjectMapper objectMapper;
+    private Tournament tournament;
+    private TournamentSummary summary;
+    private List<MemberSummary> memberSummaries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        objectMapper = context.bean(ObjectMapper.class);
+        TournamentService tournamentService = context.bean(TournamentService.class);
+        List<Long> memberIds = context.seedMembers(participants);
+        Long tournamentId = context.seedTournaments(1, 100).get(0);
+        tournamentService.registerMembers(tournamentId, memberIds);
+
+        tournament = tournamentService.getTournamentById(tournamentId).orElseThrow();
+        summary = new TournamentSummary(tournament.getId(), tournament.getStartDate(), tournament.getEndDate(),
+                tournament.getLocation(), tournament.getEntryFee(), tournament.getCashPrizeAmount(),
+                tournament.getStatus(), tournament.getMinimumParticipants(), tournament.getMaximumParticipants(),
+                tournament.getParticipantCount());
+        memberSummaries = tournamentService.getTournamentMembers(tournamentId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] tournamentEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tournament);
+    }
+
+    @Benchmark
+    public byte[] tournamentSummaryAndMembers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(List.of(summary, memberSummaries));
+    }
+}
@@ -0,0 +1,100 @@
+package com.golfclub.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Mixed HTTP load against the running server in platform-thread and virtual-thread mode.
+// Most clients call an endpoint that waits on the (artificially slow) database; the rest read a cached
+// member. With a small Tomcat pool the slow calls occupy every platform thread and the cached reads
+// queue behind them; on virtual threads the cached reads go straight through, and database-bound calls
+// beyond the connection wait limit get a 503 (the client backs off briefly and retries).
+// Outcomes are reported per call type as the ok, shed and failed secondary results.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Group)
+public class VirtualThreadLoadBenchmark {
+    private static final long SHED_BACKOFF_MS = 100;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"20"})
+    public long statementLatencyMs;
+
+    private BenchmarkContext context;
+    private HttpClient client;
+    private HttpRequest slowRequest;
+    private HttpRequest cachedRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.startWeb(statementLatencyMs,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=32",
+                "--spring.datasource.hikari.maximum-pool-size=8");
+        List<Long> memberIds = context.seedMembers(100);
+        List<Long> tournamentIds = context.seedTournaments(1, 100);
+        String base = "http://localhost:" + context.port() + "/api/v1";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        slowRequest = HttpRequest.newBuilder(URI.create(base + "/tournaments/" + tournamentIds.get(0) + "/members")).build();
+        cachedRequest = HttpRequest.newBuilder(URI.create(base + "/members/" + memberIds.get(0))).build();
+        send(cachedRequest, new Outcomes());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(96)
+    public int databaseBound(Outcomes outcomes) throws Exception {
+        return send(slowRequest, outcomes);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(32)
+    public int cachedRead(Outcomes outcomes) throws Exception {
+        return send(cachedRequest, outcomes);
+    }
+
+    private int send(HttpRequest request, Outcomes outcomes) throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status == 200) {
+            outcomes.ok++;
+        } else if (status == 503) {
+            outcomes.shed++;
+            Thread.sleep(SHED_BACKOFF_MS);
+        } else {
+            outcomes.failed++;
+        }
+        return status;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long ok;
+        public long shed;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ok = 0;
+            shed = 0;
+            failed = 0;
+        }
+    }
+}
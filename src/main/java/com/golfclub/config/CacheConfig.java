@@ -0,0 +1,35 @@
+package com.golfclub.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Caching advice runs outside the transactional advice, so a cache hit never borrows a pool connection
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+    public static final String MEMBERS = "members";
+    public static final String TOURNAMENTS = "tournaments";
+    public static final String UPCOMING_TOURNAMENTS = "upcomingTournaments";
+    public static final String AVAILABLE_TOURNAMENTS = "availableTournaments";
+
+    // Puts and evictions are deferred until the surrounding transaction commits,
+    // so a concurrent reader can never re-cache a value that is about to be rolled back or replaced
+    @Bean
+    public CacheManager cacheManager(@Value("${golfclub.cache.entity-spec}") String entitySpec,
+                                     @Value("${golfclub.cache.listing-spec}") String listingSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(MEMBERS, Caffeine.from(entitySpec).recordStats().build());
+        cacheManager.registerCustomCache(TOURNAMENTS, Caffeine.from(entitySpec).recordStats().build());
+        cacheManager.registerCustomCache(UPCOMING_TOURNAMENTS, Caffeine.from(listingSpec).recordStats().build());
+        cacheManager.registerCustomCache(AVAILABLE_TOURNAMENTS, Caffeine.from(listingSpec).recordStats().build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
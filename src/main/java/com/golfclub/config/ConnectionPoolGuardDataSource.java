@@ -0,0 +1,70 @@
+package com.golfclub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+// Refuses a connection at once while too many threads are already queued for one.
+// With platform threads the Tomcat pool bounded that queue implicitly; on virtual threads every request
+// gets a thread, and under a slow database they would all pile up inside Hikari until connection-timeout
+// (Hikari hands connections over without FIFO fairness, so the unlucky ones do wait that long).
+// Only callers that actually need a connection are refused; cache hits and the like never get here.
+public class ConnectionPoolGuardDataSource extends DelegatingDataSource {
+    private final int maxAwaitingConnection;
+    private final Counter rejectedCounter;
+    private volatile HikariPoolMXBean pool;
+
+    public ConnectionPoolGuardDataSource(DataSource targetDataSource, int maxAwaitingConnection,
+                                         MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        if (maxAwaitingConnection < 1) {
+            throw new IllegalArgumentException("Connection wait limit must be positive");
+        }
+        this.maxAwaitingConnection = maxAwaitingConnection;
+        this.rejectedCounter = Counter.builder("golfclub.jdbc.guard.rejected")
+                .description("Connection requests refused because too many threads were already waiting")
+                .register(meterRegistry);
+    }
+
+    public int getMaxAwaitingConnection() {
+        return maxAwaitingConnection;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkQueue();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkQueue();
+        return super.getConnection(username, password);
+    }
+
+    private void checkQueue() throws SQLException {
+        HikariPoolMXBean hikariPool = pool();
+        if (hikariPool != null && hikariPool.getThreadsAwaitingConnection() >= maxAwaitingConnection) {
+            rejectedCounter.increment();
+            throw new SQLTransientConnectionException("Connection pool saturated: "
+                    + hikariPool.getThreadsAwaitingConnection() + " threads already waiting");
+        }
+    }
+
+    // Hikari starts its pool on the first connection request, so the MXBean is looked up lazily
+    private HikariPoolMXBean pool() throws SQLException {
+        HikariPoolMXBean hikariPool = pool;
+        if (hikariPool == null && isWrapperFor(HikariDataSource.class)) {
+            hikariPool = unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            pool = hikariPool;
+        }
+        return hikariPool;
+    }
+}
@@ -0,0 +1,38 @@
+package com.golfclub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Active when requests are served on virtual threads (spring.threads.virtual.enabled=true, or the
+// virtual-threads profile). The JDBC pool is then the real concurrency limit, so the queue of threads
+// waiting for a connection is capped in proportion to the pool size.
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor connectionPoolGuardPostProcessor(Environment environment,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionPoolGuardDataSource)) {
+                    int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                    int waitingPerConnection = environment.getProperty(
+                            "golfclub.virtual-threads.max-waiting-per-connection", Integer.class, 4);
+                    return new ConnectionPoolGuardDataSource(dataSource, poolSize * waitingPerConnection,
+                            meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.golfclub.controller;
+
+import com.golfclub.service.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class ExportWriter {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    @FunctionalInterface
+    public interface ExportBody {
+        void write(ExportService.Format format, OutputStream out) throws IOException;
+    }
+
+    // Streams an export as a dated attachment, optionally gzip-compressed as it is written
+    public ResponseEntity<StreamingResponseBody> export(String baseName, ExportService.Format format, boolean gzip,
+                                                        ExportBody exportBody) {
+        String filename = baseName + "-" + LocalDate.now() + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exportBody.write(format, compressed);
+                compressed.finish();
+            } else {
+                exportBody.write(format, out);
+            }
+        };
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : new MediaType(MediaType.parseMediaType(format.getContentType()), StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
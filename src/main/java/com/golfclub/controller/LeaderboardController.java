@@ -0,0 +1,63 @@
+package com.golfclub.controller;
+
+import com.golfclub.dto.LeaderboardEntry;
+import com.golfclub.dto.LeaderboardPage;
+import com.golfclub.service.Leaderboard;
+import com.golfclub.service.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+public class LeaderboardController {
+    private final LeaderboardService leaderboardService;
+
+    @Autowired
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping("/seasons")
+    public ResponseEntity<List<Integer>> getSeasons() {
+        try {
+            return ResponseEntity.ok(leaderboardService.getSeasons());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // board is "played" or "winnings"; season narrows "played" to tournaments starting in that year
+    @GetMapping("/{board}")
+    public ResponseEntity<LeaderboardPage> getStandings(
+            @PathVariable String board,
+            @RequestParam(required = false) Integer season,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getStandings(Leaderboard.Board.parse(board), season, offset, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/{board}/members/{memberId}")
+    public ResponseEntity<LeaderboardEntry> getStanding(
+            @PathVariable String board,
+            @PathVariable Long memberId,
+            @RequestParam(required = false) Integer season) {
+        try {
+            return leaderboardService.getStanding(Leaderboard.Board.parse(board), season, memberId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
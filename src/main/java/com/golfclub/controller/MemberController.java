@@ -1,13 +1,28 @@
 package com.golfclub.controller;
 
+import com.golfclub.dto.KeysetPage;
+import com.golfclub.dto.MemberImportReport;
+import com.golfclub.dto.MemberPatch;
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.dto.VersionStamp;
 import com.golfclub.model.Member;
+import com.golfclub.service.ExportService;
+import com.golfclub.service.MemberImportService;
 import com.golfclub.service.MemberService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -16,10 +31,19 @@ import java.util.Map;
 @RequestMapping("/api/v1/members")
 public class MemberController {
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final ExportService exportService;
+    private final NdjsonWriter ndjsonWriter;
+    private final ExportWriter exportWriter;
 
     @Autowired
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, MemberImportService memberImportService,
+                            ExportService exportService, NdjsonWriter ndjsonWriter, ExportWriter exportWriter) {
         this.memberService = memberService;
+        this.memberImportService = memberImportService;
+        this.exportService = exportService;
+        this.ndjsonWriter = ndjsonWriter;
+        this.exportWriter = exportWriter;
     }
 
     @PostMapping
@@ -32,15 +56,81 @@ public class MemberController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MemberImportReport> importMembers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            MemberImportService.Format importFormat =
+                    MemberImportService.Format.detect(format, file.getOriginalFilename(), file.getContentType());
+            return ResponseEntity.ok(memberImportService.importMembers(input, importFormat));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // The same import with the file as the raw request body, read straight off the socket
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<MemberImportReport> importMembersFromBody(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        try {
+            MemberImportService.Format importFormat = MemberImportService.Format.detect(null, null, contentType);
+            return ResponseEntity.ok(memberImportService.importMembers(body, importFormat));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            return exportWriter.export("members", ExportService.Format.parse(format), gzip, exportService::exportMembers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping
-    public List<Member> getAllMembers() {
-        return memberService.getAllMembers();
+    public ResponseEntity<List<Member>> getAllMembers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String unchanged = VersionTags.unchanged(ifNoneMatch, memberService::getMembersVersionStamp);
+        if (unchanged != null) {
+            return VersionTags.notModified(unchanged);
+        }
+        List<Member> members = memberService.getAllMembers();
+        return ResponseEntity.ok().eTag(VersionTags.of(VersionStamp.ofMembers(members))).body(members);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<KeysetPage<Member>> getMembersPage(
+            @RequestParam(required = false) String after,
+            @RequestParam int size) {
+        try {
+            return ResponseEntity.ok(memberService.getMembersPage(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMembers() {
+        return ndjsonWriter.stream(memberService::streamAllMembers);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Member> getMember(@PathVariable Long id) {
+    public ResponseEntity<Member> getMember(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String unchanged = VersionTags.unchangedEntity(ifNoneMatch, () -> memberService.getMemberVersionStamp(id));
+        if (unchanged != null) {
+            return VersionTags.notModified(unchanged);
+        }
         return memberService.getMemberById(id)
-                .map(ResponseEntity::ok)
+                .map(member -> ResponseEntity.ok().eTag(VersionTags.ofEntity(VersionStamp.ofMembers(List.of(member))))
+                        .body(member))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -54,6 +144,39 @@ public class MemberController {
         }
     }
 
+    // Partial update: only the fields present in the body are written, and only if the member is still at the
+    // version of the ETag in If-Match (If-Match: * only requires the member to exist). 428 without a tag, 412 when
+    // the tag is stale or weak.
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchMember(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody MemberPatch patch) {
+        if (VersionTags.isMissing(ifMatch)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        Long version = null;
+        if (!VersionTags.isAny(ifMatch)) {
+            version = VersionTags.versionOf(ifMatch, id);
+            if (version == null) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+        }
+        try {
+            // If-Match: * fails as a precondition when there is nothing to match
+            HttpStatus missing = version == null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.NOT_FOUND;
+            return memberService.patchMember(id, version, patch)
+                    .map(stamp -> ResponseEntity.noContent().eTag(VersionTags.ofEntity(stamp)).<Void>build())
+                    .orElse(ResponseEntity.status(missing).build());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException | DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMember(@PathVariable Long id) {
         memberService.deleteMember(id);
@@ -61,27 +184,36 @@ public class MemberController {
     }
 
     @GetMapping("/search/name/{name}")
-    public List<Member> searchByName(@PathVariable String name) {
-        return memberService.searchByName(name);
+    public List<MemberSummary> searchByName(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "20") int limit) {
+        return memberService.searchByName(name, limit);
     }
 
     @GetMapping("/search/phone/{phone}")
-    public List<Member> searchByPhone(@PathVariable String phone) {
-        return memberService.searchByPhone(phone);
+    public List<MemberSummary> searchByPhone(
+            @PathVariable String phone,
+            @RequestParam(defaultValue = "20") int limit) {
+        return memberService.searchByPhone(phone, limit);
     }
 
     @GetMapping("/search/status/{status}")
-    public List<Member> searchByStatus(@PathVariable Member.MembershipStatus status) {
+    public List<MemberSummary> searchByStatus(@PathVariable Member.MembershipStatus status) {
         return memberService.findByStatus(status);
     }
 
     @GetMapping("/search/active")
-    public List<Member> findActiveMembers() {
+    public List<MemberSummary> findActiveMembers() {
         return memberService.findActiveMembers();
     }
 
+    @GetMapping("/search/expiring")
+    public List<MemberSummary> findExpiringMembers(@RequestParam(defaultValue = "30") int days) {
+        return memberService.findExpiringMembers(days);
+    }
+
     @GetMapping("/search/tournaments")
-    public List<Member> findByMinimumTournaments(@RequestParam Integer minCount) {
+    public List<MemberSummary> findByMinimumTournaments(@RequestParam Integer minCount) {
         return memberService.findByMinimumTournaments(minCount);
     }
 
@@ -111,14 +243,14 @@ public class MemberController {
     }
 
     @GetMapping("/search/tournament-date")
-    public List<Member> findByTournamentDate(
+    public List<MemberSummary> findByTournamentDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         return memberService.findByTournamentDate(date);
     }
 
     @GetMapping("/top-participants")
-    public List<Member> getTopParticipants() {
-        return memberService.findTopParticipants();
+    public List<MemberSummary> getTopParticipants(@RequestParam(defaultValue = "20") int limit) {
+        return memberService.findTopParticipants(limit);
     }
 
     @PostMapping("/{id}/check-status")
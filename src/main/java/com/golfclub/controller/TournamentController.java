@@ -1,12 +1,28 @@
 package com.golfclub.controller;
 
+import com.golfclub.dto.KeysetPage;
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.dto.RegistrationResult;
+import com.golfclub.dto.RevenueSummary;
+import com.golfclub.dto.TournamentPatch;
+import com.golfclub.dto.TournamentSummary;
+import com.golfclub.dto.VersionStamp;
 import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentRevenue;
+import com.golfclub.service.ExportService;
+import com.golfclub.service.RegistrationExecutor;
 import com.golfclub.service.TournamentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.util.List;
@@ -16,10 +32,19 @@ import java.util.Map;
 @RequestMapping("/api/v1/tournaments")
 public class TournamentController {
     private final TournamentService tournamentService;
+    private final RegistrationExecutor registrationExecutor;
+    private final ExportService exportService;
+    private final NdjsonWriter ndjsonWriter;
+    private final ExportWriter exportWriter;
 
     @Autowired
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService, RegistrationExecutor registrationExecutor,
+                                ExportService exportService, NdjsonWriter ndjsonWriter, ExportWriter exportWriter) {
         this.tournamentService = tournamentService;
+        this.registrationExecutor = registrationExecutor;
+        this.exportService = exportService;
+        this.ndjsonWriter = ndjsonWriter;
+        this.exportWriter = exportWriter;
     }
 
     @PostMapping
@@ -32,15 +57,56 @@ public class TournamentController {
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTournaments(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            return exportWriter.export("tournaments", ExportService.Format.parse(format), gzip,
+                    exportService::exportTournaments);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping
-    public List<Tournament> getAllTournaments() {
-        return tournamentService.getAllTournaments();
+    public ResponseEntity<List<Tournament>> getAllTournaments(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String unchanged = VersionTags.unchanged(ifNoneMatch, tournamentService::getTournamentsVersionStamp);
+        if (unchanged != null) {
+            return VersionTags.notModified(unchanged);
+        }
+        List<Tournament> tournaments = tournamentService.getAllTournaments();
+        return ResponseEntity.ok().eTag(VersionTags.of(VersionStamp.ofTournaments(tournaments))).body(tournaments);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<KeysetPage<Tournament>> getTournamentsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam int size) {
+        try {
+            return ResponseEntity.ok(tournamentService.getTournamentsPage(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTournaments() {
+        return ndjsonWriter.stream(tournamentService::streamAllTournaments);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Tournament> getTournament(@PathVariable Long id) {
+    public ResponseEntity<Tournament> getTournament(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String unchanged = VersionTags.unchangedEntity(ifNoneMatch, () -> tournamentService.getTournamentVersionStamp(id));
+        if (unchanged != null) {
+            return VersionTags.notModified(unchanged);
+        }
         return tournamentService.getTournamentById(id)
-                .map(ResponseEntity::ok)
+                .map(tournament -> ResponseEntity.ok()
+                        .eTag(VersionTags.ofEntity(VersionStamp.ofTournaments(List.of(tournament)))).body(tournament))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -53,6 +119,38 @@ public class TournamentController {
             return ResponseEntity.ok(updated);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // Partial update guarded by If-Match, as for members. The tag also covers the participants, but only the
+    // tournament's own version is compared: registrations do not conflict with a change of venue or dates.
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchTournament(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TournamentPatch patch) {
+        if (VersionTags.isMissing(ifMatch)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        Long version = null;
+        if (!VersionTags.isAny(ifMatch)) {
+            version = VersionTags.versionOf(ifMatch, id);
+            if (version == null) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+        }
+        try {
+            // If-Match: * fails as a precondition when there is nothing to match
+            HttpStatus missing = version == null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.NOT_FOUND;
+            return tournamentService.patchTournament(id, version, patch)
+                    .map(stamp -> ResponseEntity.noContent().eTag(VersionTags.ofEntity(stamp)).<Void>build())
+                    .orElse(ResponseEntity.status(missing).build());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
     }
 
@@ -62,5 +160,121 @@ public class TournamentController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/members")
+    public ResponseEntity<RegistrationResult> registerMembers(
+            @PathVariable Long id,
+            @RequestBody List<Long> memberIds) {
+        try {
+            return ResponseEntity.ok(registrationExecutor.execute(id,
+                    () -> tournamentService.registerMembers(id, memberIds)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | DataIntegrityViolationException e) {
+            // A duplicate registration that still collides after the executor's retries is a conflict too
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @PostMapping("/{id}/members/{memberId}")
+    public ResponseEntity<Tournament> addMember(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            return ResponseEntity.ok(registrationExecutor.execute(id,
+                    () -> tournamentService.addMemberToTournament(id, memberId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @DeleteMapping("/{id}/members/{memberId}")
+    public ResponseEntity<Tournament> removeMember(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            return ResponseEntity.ok(registrationExecutor.execute(id,
+                    () -> tournamentService.removeMemberFromTournament(id, memberId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // What is on between two dates, optionally at one venue (name prefix) and only with open registration.
+    // Defaults to the coming week.
+    @GetMapping("/calendar")
+    public ResponseEntity<List<TournamentSummary>> getCalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "false") boolean open) {
+        LocalDate start = from == null ? LocalDate.now() : from;
+        LocalDate end = to == null ? start.plusDays(6) : to;
+        try {
+            return ResponseEntity.ok(tournamentService.getCalendar(start, end, location, open));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/search/location/{location}")
+    public List<TournamentSummary> searchByLocation(@PathVariable String location) {
+        return tournamentService.findByLocation(location);
+    }
+
+    @GetMapping("/{id}/members")
+    public ResponseEntity<List<MemberSummary>> getTournamentMembers(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(tournamentService.getTournamentMembers(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/revenue/total")
+    public Map<String, Double> getTotalRevenue() {
+        return Map.of("total", tournamentService.calculateTotalRevenue());
+    }
+
+    @GetMapping("/revenue/by-tournament")
+    public List<TournamentRevenue> getRevenueByTournament(
+            @RequestParam(defaultValue = "COMPLETED") Tournament.TournamentStatus status) {
+        return tournamentService.getRevenueByTournament(status);
+    }
+
+    @GetMapping("/revenue/by-location")
+    public List<RevenueSummary> getRevenueByLocation(
+            @RequestParam(defaultValue = "COMPLETED") Tournament.TournamentStatus status) {
+        return tournamentService.getRevenueByLocation(status);
+    }
+
+    @GetMapping("/revenue/by-month")
+    public List<RevenueSummary> getRevenueByMonth(
+            @RequestParam(defaultValue = "COMPLETED") Tournament.TournamentStatus status) {
+        return tournamentService.getRevenueByMonth(status);
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<Void> completeTournament(
+            @PathVariable Long id,
+            @RequestBody(required = false) Map<Long, Double> prizes) {
+        try {
+            if (!tournamentService.completeTournament(id, prizes == null ? Map.of() : prizes)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            // Already completed, possibly by a concurrent call that committed first
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
 }
 
@@ -0,0 +1,97 @@
+package com.golfclub.controller;
+
+import com.golfclub.dto.VersionStamp;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.time.LocalDate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// ETags derived from version stamps. A conditional GET is checked against a stamp read with one
+// aggregate query, so an unchanged resource is answered 304 without loading or serializing it.
+// Full responses carry the tag of the body actually returned (which may come from the cache).
+// A single entity's representation is fixed by its version, its participants' versions and the day (some
+// flags, like registrationOpen, depend on the date), so its tag covers all three, is strong and can guard
+// writes. Collection tags are weak.
+final class VersionTags {
+    private static final Pattern SINGLE_ENTITY_TAG = Pattern.compile("\"1-(\\d+)-(\\d+)-\\d+-(\\d+)\"");
+
+    private VersionTags() {
+    }
+
+    static String of(VersionStamp stamp) {
+        return "W/\"" + opaque(stamp) + "\"";
+    }
+
+    static String ofEntity(VersionStamp stamp) {
+        return "\"" + opaque(stamp) + "-" + LocalDate.now().toEpochDay() + "\"";
+    }
+
+    private static String opaque(VersionStamp stamp) {
+        return stamp.getRowCount() + "-" + stamp.getMaxId() + "-" + stamp.getVersionSum() + "-"
+                + stamp.getParticipantVersionSum();
+    }
+
+    // The current collection tag when If-None-Match already holds it, otherwise null. Nothing is read unless
+    // the request is conditional, and a stamp over no rows (a missing entity) never matches.
+    static String unchanged(String ifNoneMatch, Supplier<VersionStamp> currentStamp) {
+        return unchanged(ifNoneMatch, currentStamp, VersionTags::of);
+    }
+
+    static String unchangedEntity(String ifNoneMatch, Supplier<VersionStamp> currentStamp) {
+        return unchanged(ifNoneMatch, currentStamp, VersionTags::ofEntity);
+    }
+
+    private static String unchanged(String ifNoneMatch, Supplier<VersionStamp> currentStamp,
+                                    Function<VersionStamp, String> tag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        VersionStamp stamp = currentStamp.get();
+        if (stamp.getRowCount() == 0) {
+            return null;
+        }
+        String current = tag.apply(stamp);
+        // GET revalidation uses weak comparison: the W/ prefix is ignored on both sides
+        String opaque = current.startsWith("W/") ? current.substring(2) : current;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tagged = candidate.trim();
+            if (tagged.equals("*") || (tagged.startsWith("W/") ? tagged.substring(2) : tagged).equals(opaque)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    // The entity version an If-Match tag was issued for, or null when it is not a strong single-entity tag for
+    // this id and today: If-Match uses strong comparison, so a weak tag, or one issued on an earlier day, never
+    // matches.
+    // Conditional writes compare this version in the UPDATE itself, so no read precedes them.
+    static Long versionOf(String ifMatch, Long id) {
+        Matcher matcher = SINGLE_ENTITY_TAG.matcher(ifMatch.trim());
+        if (!matcher.matches() || !matcher.group(1).equals(String.valueOf(id))
+                || !matcher.group(3).equals(String.valueOf(LocalDate.now().toEpochDay()))) {
+            return null;
+        }
+        try {
+            return Long.valueOf(matcher.group(2));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static boolean isMissing(String ifMatch) {
+        return ifMatch == null || ifMatch.isBlank();
+    }
+
+    // If-Match: * only requires the entity to exist, whatever its version
+    static boolean isAny(String ifMatch) {
+        return ifMatch.trim().equals("*");
+    }
+
+    static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.golfclub.dto;
+
+public class LeaderboardEntry {
+    private final int rank;
+    private final Long memberId;
+    private final String memberName;
+    private final Number score;
+
+    public LeaderboardEntry(int rank, Long memberId, String memberName, Number score) {
+        this.rank = rank;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.score = score;
+    }
+
+    // Members with equal scores share a rank
+    public int getRank() {
+        return rank;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    // Tournaments played, or winnings in dollars
+    public Number getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,40 @@
+package com.golfclub.dto;
+
+import java.util.List;
+
+public class LeaderboardPage {
+    private final String board;
+    private final Integer season;
+    private final int total;
+    private final int offset;
+    private final List<LeaderboardEntry> entries;
+
+    public LeaderboardPage(String board, Integer season, int total, int offset, List<LeaderboardEntry> entries) {
+        this.board = board;
+        this.season = season;
+        this.total = total;
+        this.offset = offset;
+        this.entries = entries;
+    }
+
+    public String getBoard() {
+        return board;
+    }
+
+    public Integer getSeason() {
+        return season;
+    }
+
+    // Number of ranked members on the board
+    public int getTotal() {
+        return total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public List<LeaderboardEntry> getEntries() {
+        return entries;
+    }
+}
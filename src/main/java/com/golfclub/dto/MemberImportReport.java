@@ -0,0 +1,57 @@
+package com.golfclub.dto;
+
+import java.util.List;
+
+public class MemberImportReport {
+    private final int rowsRead;
+    private final int imported;
+    private final int failed;
+    private final List<RowError> errors;
+    private final boolean errorsTruncated;
+
+    public MemberImportReport(int rowsRead, int imported, int failed, List<RowError> errors, boolean errorsTruncated) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public static class RowError {
+        private final long line;
+        private final String reason;
+
+        public RowError(long line, String reason) {
+            this.line = line;
+            this.reason = reason;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.golfclub.dto;
+
+import com.golfclub.model.Member;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+
+// Partial member update: absent (null) fields are left as they are. Constraints mirror Member's.
+public class MemberPatch {
+    @Pattern(regexp = "^[a-zA-Z\\s]{2,50}$")
+    private String memberName;
+
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String memberAddress;
+
+    @Email
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String memberEmail;
+
+    @Pattern(regexp = "^\\d{3}-\\d{3}-\\d{4}$")
+    private String memberPhone;
+
+    @PastOrPresent
+    private LocalDate startDate;
+
+    @Min(1)
+    @Max(Member.MAX_DURATION_MONTHS)
+    private Integer duration;
+
+    private Member.MembershipStatus status;
+
+    public MemberPatch() {
+    }
+
+    public static MemberPatch ofStatus(Member.MembershipStatus status) {
+        MemberPatch patch = new MemberPatch();
+        patch.status = status;
+        return patch;
+    }
+
+    public boolean hasChanges() {
+        return memberName != null || memberAddress != null || memberEmail != null || memberPhone != null
+                || startDate != null || duration != null || status != null;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public void setMemberName(String memberName) {
+        this.memberName = memberName;
+    }
+
+    public String getMemberAddress() {
+        return memberAddress;
+    }
+
+    public void setMemberAddress(String memberAddress) {
+        this.memberAddress = memberAddress;
+    }
+
+    public String getMemberEmail() {
+        return memberEmail;
+    }
+
+    public void setMemberEmail(String memberEmail) {
+        this.memberEmail = memberEmail;
+    }
+
+    public String getMemberPhone() {
+        return memberPhone;
+    }
+
+    public void setMemberPhone(String memberPhone) {
+        this.memberPhone = memberPhone;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Integer duration) {
+        this.duration = duration;
+    }
+
+    public Member.MembershipStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Member.MembershipStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,81 @@
+package com.golfclub.dto;
+
+import com.golfclub.model.Member;
+import java.time.LocalDate;
+
+// Read model for member search results: only the columns the API returns, no associations
+public class MemberSummary {
+    private final Long id;
+    private final String memberName;
+    private final String memberAddress;
+    private final String memberEmail;
+    private final String memberPhone;
+    private final LocalDate startDate;
+    private final Integer duration;
+    private final Member.MembershipStatus status;
+    private final Integer totalTournamentsPlayed;
+    private final Double totalWinnings;
+
+    public MemberSummary(Long id, String memberName, String memberAddress, String memberEmail,
+                         String memberPhone, LocalDate startDate, Integer duration,
+                         Member.MembershipStatus status, Integer totalTournamentsPlayed, Double totalWinnings) {
+        this.id = id;
+        this.memberName = memberName;
+        this.memberAddress = memberAddress;
+        this.memberEmail = memberEmail;
+        this.memberPhone = memberPhone;
+        this.startDate = startDate;
+        this.duration = duration;
+        this.status = status;
+        this.totalTournamentsPlayed = totalTournamentsPlayed;
+        this.totalWinnings = totalWinnings;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public String getMemberAddress() {
+        return memberAddress;
+    }
+
+    public String getMemberEmail() {
+        return memberEmail;
+    }
+
+    public String getMemberPhone() {
+        return memberPhone;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public Member.MembershipStatus getStatus() {
+        return status;
+    }
+
+    public Integer getTotalTournamentsPlayed() {
+        return totalTournamentsPlayed;
+    }
+
+    public Double getTotalWinnings() {
+        return totalWinnings;
+    }
+
+    public boolean isActive() {
+        return status == Member.MembershipStatus.ACTIVE;
+    }
+
+    public boolean isMembershipExpired() {
+        return LocalDate.now().isAfter(startDate.plusMonths(duration));
+    }
+}
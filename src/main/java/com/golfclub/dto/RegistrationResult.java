@@ -0,0 +1,45 @@
+package com.golfclub.dto;
+
+import java.util.List;
+
+public class RegistrationResult {
+    private final Long tournamentId;
+    private final List<Long> registered;
+    private final List<Rejection> rejected;
+
+    public RegistrationResult(Long tournamentId, List<Long> registered, List<Rejection> rejected) {
+        this.tournamentId = tournamentId;
+        this.registered = registered;
+        this.rejected = rejected;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public List<Long> getRegistered() {
+        return registered;
+    }
+
+    public List<Rejection> getRejected() {
+        return rejected;
+    }
+
+    public static class Rejection {
+        private final Long memberId;
+        private final String reason;
+
+        public Rejection(Long memberId, String reason) {
+            this.memberId = memberId;
+            this.reason = reason;
+        }
+
+        public Long getMemberId() {
+            return memberId;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.golfclub.dto;
+
+public class RevenueSummary {
+    private final String group;
+    private final Long tournaments;
+    private final Long participants;
+    private final Double revenue;
+
+    public RevenueSummary(String group, Long tournaments, Long participants, Double revenue) {
+        this.group = group;
+        this.tournaments = tournaments;
+        this.participants = participants;
+        this.revenue = revenue;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public Long getTournaments() {
+        return tournaments;
+    }
+
+    public Long getParticipants() {
+        return participants;
+    }
+
+    public Double getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,93 @@
+package com.golfclub.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+
+// Partial tournament update: absent (null) fields are left as they are. Constraints mirror Tournament's;
+// the cross-field rules (dates, participant limits) are checked against the row when it is updated.
+public class TournamentPatch {
+    @FutureOrPresent(message = "Start date must be present or future")
+    private LocalDate startDate;
+
+    @FutureOrPresent(message = "End date must be present or future")
+    private LocalDate endDate;
+
+    @Pattern(regexp = ".*\\S.*", message = "Location is required")
+    private String location;
+
+    @Positive(message = "Entry fee must be positive")
+    private Double entryFee;
+
+    @PositiveOrZero(message = "Cash prize must be zero or positive")
+    private Double cashPrizeAmount;
+
+    @Min(value = 2, message = "Minimum participants must be at least 2")
+    private Integer minimumParticipants;
+
+    @Max(value = 100, message = "Maximum participants cannot exceed 100")
+    private Integer maximumParticipants;
+
+    public TournamentPatch() {
+    }
+
+    public boolean hasChanges() {
+        return startDate != null || endDate != null || location != null || entryFee != null
+                || cashPrizeAmount != null || minimumParticipants != null || maximumParticipants != null;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Double getEntryFee() {
+        return entryFee;
+    }
+
+    public void setEntryFee(Double entryFee) {
+        this.entryFee = entryFee;
+    }
+
+    public Double getCashPrizeAmount() {
+        return cashPrizeAmount;
+    }
+
+    public void setCashPrizeAmount(Double cashPrizeAmount) {
+        this.cashPrizeAmount = cashPrizeAmount;
+    }
+
+    public Integer getMinimumParticipants() {
+        return minimumParticipants;
+    }
+
+    public void setMinimumParticipants(Integer minimumParticipants) {
+        this.minimumParticipants = minimumParticipants;
+    }
+
+    public Integer getMaximumParticipants() {
+        return maximumParticipants;
+    }
+
+    public void setMaximumParticipants(Integer maximumParticipants) {
+        this.maximumParticipants = maximumParticipants;
+    }
+}
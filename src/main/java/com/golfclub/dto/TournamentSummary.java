@@ -0,0 +1,73 @@
+package com.golfclub.dto;
+
+import com.golfclub.model.Tournament;
+import java.time.LocalDate;
+
+// Read model for tournament listings: the tournament row without its participants
+public class TournamentSummary {
+    private final Long id;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String location;
+    private final Double entryFee;
+    private final Double cashPrizeAmount;
+    private final Tournament.TournamentStatus status;
+    private final Integer minimumParticipants;
+    private final Integer maximumParticipants;
+    private final Integer participantCount;
+
+    public TournamentSummary(Long id, LocalDate startDate, LocalDate endDate, String location, Double entryFee,
+                             Double cashPrizeAmount, Tournament.TournamentStatus status, Integer minimumParticipants,
+                             Integer maximumParticipants, Integer participantCount) {
+        this.id = id;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.location = location;
+        this.entryFee = entryFee;
+        this.cashPrizeAmount = cashPrizeAmount;
+        this.status = status;
+        this.minimumParticipants = minimumParticipants;
+        this.maximumParticipants = maximumParticipants;
+        this.participantCount = participantCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Double getEntryFee() {
+        return entryFee;
+    }
+
+    public Double getCashPrizeAmount() {
+        return cashPrizeAmount;
+    }
+
+    public Tournament.TournamentStatus getStatus() {
+        return status;
+    }
+
+    public Integer getMinimumParticipants() {
+        return minimumParticipants;
+    }
+
+    public Integer getMaximumParticipants() {
+        return maximumParticipants;
+    }
+
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+}
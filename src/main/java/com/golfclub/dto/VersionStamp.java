@@ -0,0 +1,66 @@
+package com.golfclub.dto;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import java.util.Collection;
+
+// Change marker for a set of rows: row count, highest id and the total of their @Version columns, plus
+// the versions of the members embedded in tournament bodies. Every write bumps a version, inserts raise
+// the highest id (ids are never reused) and deletes lower the count, so any change moves the stamp.
+public class VersionStamp {
+    private final long rowCount;
+    private final long maxId;
+    private final long versionSum;
+    private final long participantVersionSum;
+
+    public VersionStamp(Long rowCount, Long maxId, Long versionSum, Long participantVersionSum) {
+        this.rowCount = rowCount == null ? 0 : rowCount;
+        this.maxId = maxId == null ? 0 : maxId;
+        this.versionSum = versionSum == null ? 0 : versionSum;
+        this.participantVersionSum = participantVersionSum == null ? 0 : participantVersionSum;
+    }
+
+    public static VersionStamp ofMembers(Collection<Member> members) {
+        long maxId = 0;
+        long versionSum = 0;
+        for (Member member : members) {
+            maxId = Math.max(maxId, member.getId());
+            versionSum += versionOf(member.getVersion());
+        }
+        return new VersionStamp((long) members.size(), maxId, versionSum, 0L);
+    }
+
+    public static VersionStamp ofTournaments(Collection<Tournament> tournaments) {
+        long maxId = 0;
+        long versionSum = 0;
+        long participantVersionSum = 0;
+        for (Tournament tournament : tournaments) {
+            maxId = Math.max(maxId, tournament.getId());
+            versionSum += versionOf(tournament.getVersion());
+            for (Member member : tournament.getParticipatingMembers()) {
+                participantVersionSum += versionOf(member.getVersion());
+            }
+        }
+        return new VersionStamp((long) tournaments.size(), maxId, versionSum, participantVersionSum);
+    }
+
+    private static long versionOf(Long version) {
+        return version == null ? 0 : version;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+    public long getParticipantVersionSum() {
+        return participantVersionSum;
+    }
+}
@@ -0,0 +1,69 @@
+package com.golfclub.metrics;
+
+// Per-request database activity, tracked on the current thread while a scope is open.
+// Scopes nest, so a test can open one around a MockMvc call that opens its own inside the filter.
+public final class RequestQueryStats implements AutoCloseable {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final RequestQueryStats parent;
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+
+    private RequestQueryStats(RequestQueryStats parent) {
+        this.parent = parent;
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    // Work outside a scope (startup, scheduled jobs, async streaming) is not attributed to anything
+    static void statementExecuted() {
+        for (RequestQueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        for (RequestQueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void collectionFetched() {
+        for (RequestQueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.collectionFetches++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+}
@@ -0,0 +1,82 @@
+package com.golfclub.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Opens a RequestQueryStats scope around each request, publishes the golfclub.request.* distributions
+// and flags requests whose statement count exceeds the budget (the usual signature of an N+1 regression).
+// The scope spans response serialization, so lazy loads triggered by Jackson are included.
+@Component
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+
+    @Autowired
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${golfclub.sql-budget.max-statements:20}") int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (RequestQueryStats stats = RequestQueryStats.start()) {
+            filterChain.doFilter(request, response);
+            // Streaming bodies are written on another thread, which this scope cannot follow
+            if (isAsyncStarted(request)) {
+                return;
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        summary("golfclub.request.statements", "JDBC statements executed", uri, request).record(stats.getStatements());
+        summary("golfclub.request.entity.loads", "Entities loaded", uri, request).record(stats.getEntityLoads());
+        summary("golfclub.request.collection.fetches", "Lazy collections initialized", uri, request)
+                .record(stats.getCollectionFetches());
+
+        if (stats.getStatements() > maxStatements) {
+            Counter.builder("golfclub.request.sql.budget.exceeded")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed {} SQL statements (budget {}), loaded {} entities, fetched {} collections",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(), maxStatements,
+                    stats.getEntityLoads(), stats.getCollectionFetches());
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String uri, HttpServletRequest request) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("uri", uri)
+                .tag("method", request.getMethod())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
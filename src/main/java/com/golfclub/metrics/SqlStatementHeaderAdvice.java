@@ -0,0 +1,44 @@
+package com.golfclub.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Development aid: reports the statements a request has run so far as response headers.
+// Headers must be written before the body, so lazy loads during serialization only show up in the metrics.
+@ControllerAdvice
+@ConditionalOnProperty(name = "golfclub.sql-budget.expose-headers", havingValue = "true")
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    private final SqlStatementBudgetFilter budgetFilter;
+
+    @Autowired
+    public SqlStatementHeaderAdvice(SqlStatementBudgetFilter budgetFilter) {
+        this.budgetFilter = budgetFilter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+            response.getHeaders().set(BUDGET_HEADER, Integer.toString(budgetFilter.getMaxStatements()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,108 @@
+package com.golfclub.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Counts statement executions into RequestQueryStats, whichever layer issued them (Hibernate or JdbcTemplate).
+// A JDBC batch is one round trip and counts once.
+// Executions slower than the threshold are logged with their SQL and duration (never with bound values);
+// a threshold of zero or less turns that off.
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private static final Logger slowLog = LoggerFactory.getLogger("com.golfclub.sql.slow");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+
+    private final long slowThresholdNanos;
+
+    public StatementCountingDataSource(DataSource targetDataSource, long slowThresholdMillis) {
+        super(targetDataSource);
+        this.slowThresholdNanos = slowThresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis) : 0;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> countingStatement(Statement.class, (Statement) result, null);
+                case "prepareStatement" ->
+                        countingStatement(PreparedStatement.class, (PreparedStatement) result, (String) args[0]);
+                case "prepareCall" -> countingStatement(CallableStatement.class, (CallableStatement) result, (String) args[0]);
+                default -> result;
+            };
+        });
+    }
+
+    // preparedSql is null for plain statements, whose SQL arrives with each execute call
+    private <S extends Statement> S countingStatement(Class<S> type, S target, String preparedSql) {
+        return proxy(type, target, (proxy, method, args) -> {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return invoke(target, method, args);
+            }
+            RequestQueryStats.statementExecuted();
+            if (slowThresholdNanos == 0) {
+                return invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= slowThresholdNanos && slowLog.isWarnEnabled()) {
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String text ? text : "(batch)";
+                    slowLog.warn("Slow statement took {} ms ({}): {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                            method.getName(), abbreviate(sql));
+                }
+            }
+        });
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> target.toString();
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -3,16 +3,22 @@ package com.golfclub.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// The schema is owned by the Flyway migrations in db/migration; these indexes mirror them for generated test schemas
 @Table(name = "members", indexes = {
-        @Index(name = "idx_member_email", columnList = "memberEmail"),
-        @Index(name = "idx_member_phone", columnList = "memberPhone")
+        @Index(name = "idx_member_status_end_date", columnList = "status, membership_end_date"),
+        @Index(name = "idx_member_status_played", columnList = "status, total_tournaments_played DESC, id"),
+        @Index(name = "idx_member_played", columnList = "total_tournaments_played")
 })
 public class Member {
+    public static final int MAX_DURATION_MONTHS = 60;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,25 +43,33 @@ public class Member {
     @PastOrPresent
     private LocalDate startDate;
 
+    @NotNull
     @Min(1)
-    @Max(60)
+    @Max(MAX_DURATION_MONTHS)
     private Integer duration;
 
+    // startDate + duration months, persisted so active/expiring queries can range-scan an index
+    @Column(name = "membership_end_date")
+    private LocalDate membershipEndDate;
+
     @JsonIgnore
-    @ManyToMany(mappedBy = "participatingMembers", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "participatingMembers", fetch = FetchType.LAZY)
     private List<Tournament> tournaments = new ArrayList<>();
 
     @Version
     private Long version;
 
+    @NotNull
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
     private MembershipStatus status = MembershipStatus.ACTIVE;
 
     @Column(name = "total_tournaments_played")
     private Integer totalTournamentsPlayed = 0;
 
-    @Column(name = "total_winnings")
+    @JdbcTypeCode(SqlTypes.DECIMAL)
+    @Column(name = "total_winnings", precision = 10, scale = 2)
     private Double totalWinnings = 0.0;
 
     public enum MembershipStatus {
@@ -133,6 +147,20 @@ public class Member {
         this.duration = duration;
     }
 
+    public LocalDate getMembershipEndDate() {
+        return membershipEndDate;
+    }
+
+    public static LocalDate membershipEndDate(LocalDate startDate, Integer duration) {
+        return startDate == null || duration == null ? null : startDate.plusMonths(duration);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncMembershipEndDate() {
+        membershipEndDate = membershipEndDate(startDate, duration);
+    }
+
     public List<Tournament> getTournaments() {
         return tournaments;
     }
@@ -141,6 +169,12 @@ public class Member {
         this.tournaments = tournaments;
     }
 
+    // Not part of the JSON body; clients see it as the ETag
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
     public MembershipStatus getStatus() {
         return status;
     }
@@ -1,14 +1,25 @@
 package com.golfclub.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
-@Table(name = "tournaments")
+@Table(name = "tournaments", indexes = {
+        @Index(name = "idx_tournament_date", columnList = "start_date"),
+        @Index(name = "idx_tournament_availability", columnList = "status, participant_count, maximum_participants"),
+        @Index(name = "idx_tournament_location_key", columnList = "location_key"),
+        @Index(name = "idx_tournament_status_start", columnList = "status, start_date"),
+        @Index(name = "idx_tournament_status_end", columnList = "status, end_date"),
+        @Index(name = "idx_tournament_end_start", columnList = "end_date, start_date")
+})
 public class Tournament {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,12 +39,18 @@ public class Tournament {
     @Column(name = "location")
     private String location;
 
+    // Lower-cased, whitespace-normalized copy of location so prefix searches can range-scan an index
+    @Column(name = "location_key")
+    private String locationKey;
+
     @Positive(message = "Entry fee must be positive")
-    @Column(name = "entry_fee", nullable = false)
+    @JdbcTypeCode(SqlTypes.DECIMAL)
+    @Column(name = "entry_fee", nullable = false, precision = 10, scale = 2)
     private Double entryFee;
 
     @PositiveOrZero(message = "Cash prize must be zero or positive")
-    @Column(name = "cash_prize_amount", nullable = false)
+    @JdbcTypeCode(SqlTypes.DECIMAL)
+    @Column(name = "cash_prize_amount", nullable = false, precision = 10, scale = 2)
     private Double cashPrizeAmount;
 
     @JsonIgnoreProperties("tournaments")
@@ -41,7 +58,8 @@ public class Tournament {
     @JoinTable(
             name = "tournament_members",
             joinColumns = @JoinColumn(name = "tournament_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id")
+            inverseJoinColumns = @JoinColumn(name = "member_id"),
+            indexes = @Index(name = "idx_tournament_members_member", columnList = "member_id, tournament_id")
     )
     private Set<Member> participatingMembers = new HashSet<>();
 
@@ -50,7 +68,8 @@ public class Tournament {
     private Long version;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "status", nullable = false, length = 20)
     private TournamentStatus status = TournamentStatus.SCHEDULED;
 
     @Min(value = 2, message = "Minimum participants must be at least 2")
@@ -61,6 +80,11 @@ public class Tournament {
     @Column(name = "maximum_participants", nullable = false)
     private Integer maximumParticipants = 100;
 
+    // Kept in step with tournament_members so counts never need the join table; never taken from a request body
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount = 0;
+
     public enum TournamentStatus {
         SCHEDULED, IN_PROGRESS, COMPLETED, CANCELLED
     }
@@ -168,25 +192,47 @@ public class Tournament {
         this.maximumParticipants = maximumParticipants;
     }
 
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+
+    public void setParticipantCount(Integer participantCount) {
+        this.participantCount = participantCount;
+    }
+
+    public static String toLocationKey(String location) {
+        return location == null ? null : location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncLocationKey() {
+        locationKey = toLocationKey(location);
+    }
+
     // Business methods
     public void addMember(Member member) {
-        participatingMembers.add(member);
+        if (participatingMembers.add(member)) {
+            participantCount++;
+        }
         member.getTournaments().add(this);
     }
 
     public void removeMember(Member member) {
-        participatingMembers.remove(member);
+        if (participatingMembers.remove(member)) {
+            participantCount--;
+        }
         member.getTournaments().remove(this);
     }
 
     public boolean isRegistrationOpen() {
         return status == TournamentStatus.SCHEDULED &&
-                participatingMembers.size() < maximumParticipants &&
+                participantCount < maximumParticipants &&
                 LocalDate.now().isBefore(startDate);
     }
 
     public boolean hasMinimumParticipants() {
-        return participatingMembers.size() >= minimumParticipants;
+        return participantCount >= minimumParticipants;
     }
 
     public boolean isMemberRegistered(Member member) {
@@ -194,7 +240,7 @@ public class Tournament {
     }
 
     public Double calculateTotalRevenue() {
-        return entryFee * participatingMembers.size();
+        return entryFee * participantCount;
     }
 
     // Equals and HashCode
@@ -218,7 +264,7 @@ public class Tournament {
                 ", startDate=" + startDate +
                 ", location='" + location + '\'' +
                 ", status=" + status +
-                ", participants=" + participatingMembers.size() +
+                ", participants=" + participantCount +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.golfclub.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// Per-tournament revenue aggregate, maintained on registration changes so reports never count join rows
+@Entity
+@Table(name = "tournament_revenue", indexes = {
+        @Index(name = "idx_revenue_status_location", columnList = "status, location"),
+        @Index(name = "idx_revenue_status_month", columnList = "status, revenue_month"),
+        @Index(name = "idx_revenue_status_revenue", columnList = "status, revenue")
+})
+public class TournamentRevenue {
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "location", nullable = false)
+    private String location;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "revenue_month", nullable = false, length = 7)
+    private String revenueMonth;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "status", nullable = false, length = 20)
+    private Tournament.TournamentStatus status;
+
+    @JdbcTypeCode(SqlTypes.DECIMAL)
+    @Column(name = "entry_fee", nullable = false, precision = 10, scale = 2)
+    private Double entryFee;
+
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount;
+
+    @JdbcTypeCode(SqlTypes.DECIMAL)
+    @Column(name = "revenue", nullable = false, precision = 12, scale = 2)
+    private Double revenue;
+
+    public TournamentRevenue() {
+    }
+
+    public TournamentRevenue(Tournament tournament) {
+        this.tournamentId = tournament.getId();
+        refreshFrom(tournament);
+    }
+
+    public void refreshFrom(Tournament tournament) {
+        this.location = tournament.getLocation();
+        this.revenueMonth = tournament.getStartDate().toString().substring(0, 7);
+        this.status = tournament.getStatus();
+        this.entryFee = tournament.getEntryFee();
+        this.participantCount = tournament.getParticipantCount();
+        this.revenue = tournament.calculateTotalRevenue();
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getRevenueMonth() {
+        return revenueMonth;
+    }
+
+    public Tournament.TournamentStatus getStatus() {
+        return status;
+    }
+
+    public Double getEntryFee() {
+        return entryFee;
+    }
+
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+
+    public Double getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,79 @@
+package com.golfclub.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+// Full-table reads for exports. Rows are handed to the callback as the driver reads them off a
+// forward-only cursor; with MySQL the result set is streamed row by row instead of being buffered.
+@Repository
+public class ExportJdbcRepo {
+    public static final List<String> MEMBER_COLUMNS = List.of("id", "memberName", "memberAddress", "memberEmail",
+            "memberPhone", "startDate", "duration", "membershipEndDate", "status", "totalTournamentsPlayed",
+            "totalWinnings");
+    public static final List<String> TOURNAMENT_COLUMNS = List.of("id", "startDate", "endDate", "location", "status",
+            "entryFee", "cashPrizeAmount", "minimumParticipants", "maximumParticipants", "participantCount", "revenue");
+
+    private static final String MEMBERS_SQL = "SELECT id, member_name, member_address, member_email, member_phone, " +
+            "start_date, duration, membership_end_date, status, total_tournaments_played, total_winnings " +
+            "FROM members ORDER BY id";
+    private static final String TOURNAMENTS_SQL = "SELECT t.id, t.start_date, t.end_date, t.location, t.status, " +
+            "t.entry_fee, t.cash_prize_amount, t.minimum_participants, t.maximum_participants, t.participant_count, " +
+            "COALESCE(r.revenue, 0) FROM tournaments t LEFT JOIN tournament_revenue r ON r.tournament_id = t.id " +
+            "ORDER BY t.id";
+    // Connector/J's signal to stream rows instead of reading the whole result into memory
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Integer fetchSize;
+
+    @Autowired
+    public ExportJdbcRepo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void streamMembers(RowCallbackHandler handler) {
+        stream(MEMBERS_SQL, handler);
+    }
+
+    public void streamTournaments(RowCallbackHandler handler) {
+        stream(TOURNAMENTS_SQL, handler);
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize());
+            return statement;
+        }, handler);
+    }
+
+    // Other drivers reject a negative fetch size, so the MySQL setting is only used against MySQL
+    private int fetchSize() {
+        Integer size = fetchSize;
+        if (size == null) {
+            size = DEFAULT_FETCH_SIZE;
+            DataSource dataSource = jdbcTemplate.getDataSource();
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                if ("MySQL".equalsIgnoreCase(product)) {
+                    size = MYSQL_STREAMING_FETCH_SIZE;
+                }
+            } catch (MetaDataAccessException e) {
+                // Keep the portable fetch size
+            }
+            fetchSize = size;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,112 @@
+package com.golfclub.repository;
+
+import com.golfclub.dto.MemberPatch;
+import com.golfclub.model.Member;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// Batched member inserts and targeted updates. Hibernate cannot batch IDENTITY inserts, so bulk paths
+// write through JDBC and read the generated ids back from the batch; partial updates write only the
+// changed columns instead of loading and dirty-checking the entity.
+@Repository
+@Timed(value = "golfclub.repository.jdbc", histogram = true)
+public class MemberJdbcRepo {
+    private static final String INSERT_MEMBER = "INSERT INTO members (member_name, member_address, member_email, " +
+            "member_phone, start_date, duration, membership_end_date, status, total_tournaments_played, " +
+            "total_winnings, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public MemberJdbcRepo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns the generated ids in the order of the given members
+    public List<Long> insertMembers(List<Member> members) {
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_MEMBER, Statement.RETURN_GENERATED_KEYS)) {
+                for (Member member : members) {
+                    statement.setString(1, member.getMemberName());
+                    statement.setString(2, member.getMemberAddress());
+                    statement.setString(3, member.getMemberEmail());
+                    statement.setString(4, member.getMemberPhone());
+                    statement.setDate(5, Date.valueOf(member.getStartDate()));
+                    statement.setInt(6, member.getDuration());
+                    statement.setDate(7, Date.valueOf(Member.membershipEndDate(member.getStartDate(), member.getDuration())));
+                    statement.setString(8, member.getStatus().name());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> ids = new ArrayList<>(members.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    // Writes the patched columns and bumps the version. With an expected version the row is only updated
+    // while it still has that version. Returns the number of rows updated.
+    public int updateMember(Long id, Long expectedVersion, MemberPatch patch) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        // The end date goes first: MySQL evaluates SET clauses left to right, so start_date and duration
+        // still hold their old values when it is computed
+        if (patch.getStartDate() != null && patch.getDuration() != null) {
+            assign(assignments, args, "membership_end_date",
+                    Date.valueOf(Member.membershipEndDate(patch.getStartDate(), patch.getDuration())));
+        } else if (patch.getStartDate() != null) {
+            assignments.add("membership_end_date = TIMESTAMPADD(MONTH, duration, ?)");
+            args.add(Date.valueOf(patch.getStartDate()));
+        } else if (patch.getDuration() != null) {
+            assignments.add("membership_end_date = TIMESTAMPADD(MONTH, ?, start_date)");
+            args.add(patch.getDuration());
+        }
+        assign(assignments, args, "member_name", patch.getMemberName());
+        assign(assignments, args, "member_address", patch.getMemberAddress());
+        assign(assignments, args, "member_email", patch.getMemberEmail());
+        assign(assignments, args, "member_phone", patch.getMemberPhone());
+        assign(assignments, args, "start_date", patch.getStartDate() == null ? null : Date.valueOf(patch.getStartDate()));
+        assign(assignments, args, "duration", patch.getDuration());
+        assign(assignments, args, "status", patch.getStatus() == null ? null : patch.getStatus().name());
+        assignments.add("version = version + 1");
+        StringBuilder sql = new StringBuilder("UPDATE members SET ").append(String.join(", ", assignments))
+                .append(" WHERE id = ?");
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // Adds months to the membership, keeping the end date in step, unless that would take it past maxDuration
+    public int extendMembership(Long id, int months, int maxDuration) {
+        return jdbcTemplate.update("UPDATE members SET membership_end_date = TIMESTAMPADD(MONTH, duration + ?, start_date), " +
+                "duration = duration + ?, version = version + 1 WHERE id = ? AND duration + ? <= ?",
+                months, months, id, months, maxDuration);
+    }
+
+    private static void assign(List<String> assignments, List<Object> args, String column, Object value) {
+        if (value != null) {
+            assignments.add(column + " = ?");
+            args.add(value);
+        }
+    }
+}
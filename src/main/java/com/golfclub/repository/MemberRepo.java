@@ -1,32 +1,133 @@
 package com.golfclub.repository;
 
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.dto.VersionStamp;
 import com.golfclub.model.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepo extends JpaRepository<Member, Long> {
+    String SUMMARY = "new com.golfclub.dto.MemberSummary(m.id, m.memberName, m.memberAddress, m.memberEmail, " +
+            "m.memberPhone, m.startDate, m.duration, m.status, m.totalTournamentsPlayed, m.totalWinnings)";
+
     Optional<Member> findByMemberEmail(String email);
     Optional<Member> findByMemberPhone(String phone);
-    List<Member> findByMemberNameContainingIgnoreCase(String name);
-    List<Member> findByMemberPhoneContaining(String phonePartial);
-    List<Member> findByStatus(Member.MembershipStatus status);
-    List<Member> findByStartDateBetween(LocalDate start, LocalDate end);
-    List<Member> findByTotalTournamentsPlayedGreaterThan(Integer count);
-    List<Member> findByTotalWinningsGreaterThan(Double amount);
+    boolean existsByMemberEmailAndIdNot(String email, Long id);
+    boolean existsByMemberPhoneAndIdNot(String phone, Long id);
+    List<MemberSummary> findByMemberNameContainingIgnoreCase(String name, Pageable pageable);
+    List<MemberSummary> findByMemberPhoneContaining(String phonePartial, Pageable pageable);
+    List<MemberSummary> findByIdIn(Collection<Long> ids);
+    List<MemberSummary> findByStatus(Member.MembershipStatus status);
+    List<MemberSummary> findByStartDateBetween(LocalDate start, LocalDate end);
+    List<MemberSummary> findByTotalTournamentsPlayedGreaterThan(Integer count);
+    List<MemberSummary> findByTotalWinningsGreaterThan(Double amount);
+
+    @Query("SELECT " + SUMMARY + " FROM Member m JOIN m.tournaments t WHERE t.id = :tournamentId")
+    List<MemberSummary> findMembersByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query("SELECT " + SUMMARY + " FROM Member m JOIN m.tournaments t WHERE t.startDate = :date")
+    List<MemberSummary> findByTournamentStartDate(@Param("date") LocalDate date);
+
+    @Query("SELECT " + SUMMARY + " FROM Member m WHERE m.status = 'ACTIVE' AND m.membershipEndDate > :date " +
+            "AND m.startDate <= :date")
+    List<MemberSummary> findActiveMembers(@Param("date") LocalDate date);
+
+    @Query("SELECT " + SUMMARY + " FROM Member m WHERE m.status = 'ACTIVE' " +
+            "AND m.membershipEndDate >= :from AND m.membershipEndDate <= :to ORDER BY m.membershipEndDate ASC")
+    List<MemberSummary> findActiveExpiringBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT " + SUMMARY + " FROM Member m WHERE m.status = 'ACTIVE' " +
+            "ORDER BY m.totalTournamentsPlayed DESC, m.id ASC")
+    List<MemberSummary> findTopParticipants(Pageable pageable);
+
+    @Query("SELECT m FROM Member m WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<Member> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<IdAndStatus> findStatusByIdIn(Collection<Long> ids);
+
+    @Query("SELECT m.memberEmail FROM Member m WHERE m.memberEmail IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT m.memberPhone FROM Member m WHERE m.memberPhone IN :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
+
+    @Query("SELECT m.id AS id, m.memberName AS memberName, m.memberPhone AS memberPhone FROM Member m " +
+            "WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<SearchKey> findSearchKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT m.id AS id, m.memberName AS memberName, m.memberPhone AS memberPhone FROM Member m WHERE m.id = :id")
+    Optional<SearchKey> findSearchKeyById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE members SET total_tournaments_played = total_tournaments_played + 1, version = version + 1 " +
+            "WHERE id IN (SELECT member_id FROM tournament_members WHERE tournament_id = :tournamentId)", nativeQuery = true)
+    int incrementTournamentsPlayed(@Param("tournamentId") Long tournamentId);
+
+    @Query("SELECT m.id AS id, m.version AS version, m.totalTournamentsPlayed AS totalTournamentsPlayed, " +
+            "m.totalWinnings AS totalWinnings FROM Member m WHERE m.id > :afterId " +
+            "AND (m.totalTournamentsPlayed > 0 OR m.totalWinnings > 0) ORDER BY m.id ASC")
+    List<StandingsRow> findStandingsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT m.id AS memberId, YEAR(t.startDate) AS season, COUNT(t) AS played FROM Tournament t " +
+            "JOIN t.participatingMembers m WHERE t.status = 'COMPLETED' AND m.id IN :memberIds " +
+            "GROUP BY m.id, YEAR(t.startDate)")
+    List<SeasonPlayed> findSeasonPlayed(@Param("memberIds") Collection<Long> memberIds);
+
+    @Query("SELECT m.id AS id, m.version AS version FROM Tournament t JOIN t.participatingMembers m " +
+            "WHERE t.id = :tournamentId")
+    List<IdAndVersion> findParticipantVersions(@Param("tournamentId") Long tournamentId);
+
+    @Query("SELECT MAX(m.id) FROM Member m")
+    Long findMaxId();
+
+    @Query("SELECT new com.golfclub.dto.VersionStamp(COUNT(m), MAX(m.id), SUM(m.version), 0L) FROM Member m " +
+            "WHERE m.id = :id")
+    VersionStamp findVersionStampById(@Param("id") Long id);
+
+    @Query("SELECT new com.golfclub.dto.VersionStamp(COUNT(m), MAX(m.id), SUM(m.version), 0L) FROM Member m")
+    VersionStamp findVersionStamp();
+
+    // Bounded by primary-key range so each call locks at most one chunk of rows
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE members SET status = 'EXPIRED', version = version + 1 " +
+            "WHERE id > :afterId AND id <= :throughId AND status <> 'EXPIRED' " +
+            "AND membership_end_date < :today", nativeQuery = true)
+    int expireLapsedInRange(@Param("afterId") Long afterId, @Param("throughId") Long throughId,
+                            @Param("today") LocalDate today);
+
+    interface IdAndStatus {
+        Long getId();
+        Member.MembershipStatus getStatus();
+    }
 
-    @Query("SELECT m FROM Member m JOIN m.tournaments t WHERE t.id = :tournamentId")
-    List<Member> findMembersByTournamentId(@Param("tournamentId") Long tournamentId);
+    interface IdAndVersion {
+        Long getId();
+        Long getVersion();
+    }
 
-    @Query("SELECT m FROM Member m JOIN m.tournaments t WHERE t.startDate = :date")
-    List<Member> findByTournamentStartDate(@Param("date") LocalDate date);
+    interface StandingsRow {
+        Long getId();
+        Long getVersion();
+        Integer getTotalTournamentsPlayed();
+        Double getTotalWinnings();
+    }
 
-    @Query("SELECT m FROM Member m WHERE m.startDate <= :date AND DATEADD(MONTH, m.duration, m.startDate) > :date")
-    List<Member> findActiveMembers(@Param("date") LocalDate date);
+    interface SeasonPlayed {
+        Long getMemberId();
+        Integer getSeason();
+        Long getPlayed();
+    }
 
-    @Query("SELECT m FROM Member m WHERE m.status = 'ACTIVE' ORDER BY m.totalTournamentsPlayed DESC")
-    List<Member> findTopParticipants();
-}
\ No newline at end of file
+    interface SearchKey {
+        Long getId();
+        String getMemberName();
+        String getMemberPhone();
+    }
+}
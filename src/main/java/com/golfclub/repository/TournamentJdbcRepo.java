@@ -0,0 +1,142 @@
+package com.golfclub.repository;
+
+import com.golfclub.dto.TournamentPatch;
+import com.golfclub.model.Tournament;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Set-based writes against the tournament tables that bypass entity loading and dirty checking.
+// Callers run inside the service transaction, so these statements share its connection.
+@Repository
+@Timed(value = "golfclub.repository.jdbc", histogram = true)
+public class TournamentJdbcRepo {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TournamentJdbcRepo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertRegistrations(Long tournamentId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = memberIds.stream()
+                .map(memberId -> new Object[]{tournamentId, memberId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO tournament_members (tournament_id, member_id) VALUES (?, ?)", rows);
+    }
+
+    public int deleteRegistration(Long tournamentId, Long memberId) {
+        return jdbcTemplate.update("DELETE FROM tournament_members WHERE tournament_id = ? AND member_id = ?",
+                tournamentId, memberId);
+    }
+
+    public List<Long> findTournamentIdsOf(Long memberId) {
+        return jdbcTemplate.queryForList("SELECT tournament_id FROM tournament_members WHERE member_id = ?",
+                Long.class, memberId);
+    }
+
+    // Frees the seats a member holds; their registrations go with the member row (ON DELETE CASCADE)
+    public int releaseSeatsOf(Long memberId) {
+        return jdbcTemplate.update("UPDATE tournaments SET participant_count = participant_count - 1, " +
+                "version = version + 1 WHERE id IN (SELECT tournament_id FROM tournament_members WHERE member_id = ?)",
+                memberId);
+    }
+
+    // Credits prize money to registered participants only; unregistered ids update nothing
+    public void creditWinnings(Long tournamentId, Map<Long, Double> prizes) {
+        if (prizes.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = prizes.entrySet().stream()
+                .map(prize -> new Object[]{prize.getValue(), prize.getKey(), tournamentId})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE members SET total_winnings = total_winnings + ?, version = version + 1 " +
+                "WHERE id = ? AND id IN (SELECT member_id FROM tournament_members WHERE tournament_id = ?)", rows);
+    }
+
+    // Writes the patched columns and bumps the version. With an expected version the row is only updated
+    // while it still has that version. Dates and participant limits are checked against the row in the same
+    // statement: a patch that would leave them inconsistent updates nothing. Returns the number of rows updated.
+    public int updateTournament(Long id, Long expectedVersion, TournamentPatch patch) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        Date startDate = patch.getStartDate() == null ? null : Date.valueOf(patch.getStartDate());
+        Date endDate = patch.getEndDate() == null ? null : Date.valueOf(patch.getEndDate());
+        assign(assignments, args, "start_date", startDate);
+        assign(assignments, args, "end_date", endDate);
+        assign(assignments, args, "location", patch.getLocation());
+        assign(assignments, args, "location_key", Tournament.toLocationKey(patch.getLocation()));
+        assign(assignments, args, "entry_fee", patch.getEntryFee());
+        assign(assignments, args, "cash_prize_amount", patch.getCashPrizeAmount());
+        assign(assignments, args, "minimum_participants", patch.getMinimumParticipants());
+        assign(assignments, args, "maximum_participants", patch.getMaximumParticipants());
+        assignments.add("version = version + 1");
+
+        StringBuilder sql = new StringBuilder("UPDATE tournaments SET ").append(String.join(", ", assignments))
+                .append(" WHERE id = ?");
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        if (startDate != null || endDate != null) {
+            sql.append(" AND ").append(startDate == null ? "start_date" : "?")
+                    .append(" <= ").append(endDate == null ? "end_date" : "?");
+            addIfPresent(args, startDate);
+            addIfPresent(args, endDate);
+        }
+        if (patch.getMinimumParticipants() != null || patch.getMaximumParticipants() != null) {
+            sql.append(" AND ").append(patch.getMinimumParticipants() == null ? "minimum_participants" : "?")
+                    .append(" <= ").append(patch.getMaximumParticipants() == null ? "maximum_participants" : "?");
+            addIfPresent(args, patch.getMinimumParticipants());
+            addIfPresent(args, patch.getMaximumParticipants());
+        }
+        if (patch.getMaximumParticipants() != null) {
+            sql.append(" AND participant_count <= ?");
+            args.add(patch.getMaximumParticipants());
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // Keeps the reporting row in step with a patch to the columns it copies
+    public void updateRevenueDetails(Long tournamentId, TournamentPatch patch) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (patch.getEntryFee() != null) {
+            assignments.add("revenue = ? * participant_count");
+            args.add(patch.getEntryFee());
+        }
+        assign(assignments, args, "entry_fee", patch.getEntryFee());
+        assign(assignments, args, "location", patch.getLocation());
+        assign(assignments, args, "revenue_month",
+                patch.getStartDate() == null ? null : patch.getStartDate().toString().substring(0, 7));
+        if (assignments.isEmpty()) {
+            return;
+        }
+        args.add(tournamentId);
+        jdbcTemplate.update("UPDATE tournament_revenue SET " + String.join(", ", assignments) + " WHERE tournament_id = ?",
+                args.toArray());
+    }
+
+    private static void assign(List<String> assignments, List<Object> args, String column, Object value) {
+        if (value != null) {
+            assignments.add(column + " = ?");
+            args.add(value);
+        }
+    }
+
+    private static void addIfPresent(List<Object> args, Object value) {
+        if (value != null) {
+            args.add(value);
+        }
+    }
+}
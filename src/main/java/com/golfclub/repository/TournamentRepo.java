@@ -1,18 +1,23 @@
 package com.golfclub.repository;
 
+import com.golfclub.dto.TournamentSummary;
+import com.golfclub.dto.VersionStamp;
 import com.golfclub.model.Tournament;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TournamentRepo extends JpaRepository<Tournament, Long> {
     @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.status = :status")
     List<Tournament> findByStatus(@Param("status") Tournament.TournamentStatus status);
 
-    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.location LIKE %:location%")
-    List<Tournament> findByLocationContainingIgnoreCase(@Param("location") String location);
+    List<TournamentSummary> findByLocationKeyStartingWithOrderByStartDateAsc(String locationKeyPrefix);
 
     @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.startDate BETWEEN :startDate AND :endDate")
     List<Tournament> findByStartDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
@@ -20,13 +25,10 @@ public interface TournamentRepo extends JpaRepository<Tournament, Long> {
     @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers")
     List<Tournament> findAllWithMembers();
 
-    @Query("SELECT SUM(t.entryFee * SIZE(t.participatingMembers)) FROM Tournament t WHERE t.status = 'COMPLETED'")
-    Double calculateTotalRevenue();
-
     @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.startDate <= :date AND t.endDate >= :date")
     List<Tournament> findCurrentTournaments(@Param("date") LocalDate date);
 
-    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE SIZE(t.participatingMembers) < t.maximumParticipants AND t.status = 'SCHEDULED'")
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.status = 'SCHEDULED' AND t.participantCount < t.maximumParticipants")
     List<Tournament> findAvailableTournaments();
 
     @Query("SELECT t FROM Tournament t WHERE t.cashPrizeAmount >= :minPrize")
@@ -35,12 +37,87 @@ public interface TournamentRepo extends JpaRepository<Tournament, Long> {
     @Query("SELECT t FROM Tournament t WHERE t.entryFee <= :maxFee")
     List<Tournament> findByMaximumEntryFee(@Param("maxFee") Double maxFee);
 
-    @Query("SELECT t FROM Tournament t WHERE SIZE(t.participatingMembers) >= :minCount")
+    @Query("SELECT t FROM Tournament t WHERE t.participantCount >= :minCount")
     List<Tournament> findByMinimumParticipants(@Param("minCount") Integer minCount);
 
-    @Query("SELECT t FROM Tournament t WHERE t.status = 'SCHEDULED' AND t.startDate > :date ORDER BY t.startDate ASC")
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.status = 'SCHEDULED' AND t.startDate > :date ORDER BY t.startDate ASC")
     List<Tournament> findUpcomingTournaments(@Param("date") LocalDate date);
 
     @Query("SELECT t FROM Tournament t WHERE t.status = 'COMPLETED' ORDER BY t.endDate DESC")
     List<Tournament> findRecentlyCompletedTournaments();
-}
\ No newline at end of file
+
+    @Query("SELECT t FROM Tournament t ORDER BY t.startDate ASC, t.id ASC")
+    List<Tournament> findFirstPage(Pageable pageable);
+
+    @Query("SELECT t FROM Tournament t WHERE t.startDate > :startDate OR (t.startDate = :startDate AND t.id > :afterId) ORDER BY t.startDate ASC, t.id ASC")
+    List<Tournament> findPageAfter(@Param("startDate") LocalDate startDate, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.id = :id")
+    Optional<Tournament> findWithMembersById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.id IN :ids ORDER BY t.startDate ASC, t.id ASC")
+    List<Tournament> findAllWithMembersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Claims seats atomically: the row lock taken by the UPDATE serializes concurrent sign-ups,
+    // and a zero return means the tournament is full or no longer scheduled
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tournament t SET t.participantCount = t.participantCount + :seats, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.status = 'SCHEDULED' AND t.participantCount + :seats <= t.maximumParticipants")
+    int reserveSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tournament t SET t.participantCount = t.participantCount - 1, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.participantCount > 0")
+    int releaseSeat(@Param("id") Long id);
+
+    // Participant versions are summed in a subquery; joining them would repeat the tournament's own version
+    @Query("SELECT new com.golfclub.dto.VersionStamp(COUNT(t), MAX(t.id), SUM(t.version), " +
+            "(SELECT COALESCE(SUM(m.version), 0) FROM Tournament p JOIN p.participatingMembers m WHERE p.id = :id)) " +
+            "FROM Tournament t WHERE t.id = :id")
+    VersionStamp findVersionStampById(@Param("id") Long id);
+
+    @Query("SELECT new com.golfclub.dto.VersionStamp(COUNT(t), MAX(t.id), SUM(t.version), " +
+            "(SELECT COALESCE(SUM(m.version), 0) FROM Tournament p JOIN p.participatingMembers m)) FROM Tournament t")
+    VersionStamp findVersionStamp();
+
+    @Query("SELECT t.id AS id, t.startDate AS startDate, t.endDate AS endDate, t.location AS location, " +
+            "t.entryFee AS entryFee, t.cashPrizeAmount AS cashPrizeAmount, t.status AS status, " +
+            "t.minimumParticipants AS minimumParticipants, t.maximumParticipants AS maximumParticipants, " +
+            "t.participantCount AS participantCount, t.version AS version " +
+            "FROM Tournament t WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<CalendarRow> findCalendarRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t.id AS id, t.startDate AS startDate, t.endDate AS endDate, t.location AS location, " +
+            "t.entryFee AS entryFee, t.cashPrizeAmount AS cashPrizeAmount, t.status AS status, " +
+            "t.minimumParticipants AS minimumParticipants, t.maximumParticipants AS maximumParticipants, " +
+            "t.participantCount AS participantCount, t.version AS version " +
+            "FROM Tournament t WHERE t.id = :id")
+    Optional<CalendarRow> findCalendarRowById(@Param("id") Long id);
+
+    // Tournaments overlapping [from, to], for when the in-memory calendar cannot answer
+    @Query("SELECT new com.golfclub.dto.TournamentSummary(t.id, t.startDate, t.endDate, t.location, t.entryFee, " +
+            "t.cashPrizeAmount, t.status, t.minimumParticipants, t.maximumParticipants, t.participantCount) " +
+            "FROM Tournament t WHERE t.startDate <= :to AND t.endDate >= :from " +
+            "AND (:locationKey IS NULL OR t.locationKey LIKE CONCAT(:locationKey, '%')) " +
+            "AND (:openOnly = false OR (t.status = 'SCHEDULED' AND t.participantCount < t.maximumParticipants)) " +
+            "ORDER BY t.startDate ASC, t.id ASC")
+    List<TournamentSummary> findCalendar(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                         @Param("locationKey") String locationKey, @Param("openOnly") boolean openOnly);
+
+    @Query("SELECT m.id FROM Tournament t JOIN t.participatingMembers m WHERE t.id = :tournamentId AND m.id IN :memberIds")
+    List<Long> findRegisteredMemberIds(@Param("tournamentId") Long tournamentId, @Param("memberIds") Collection<Long> memberIds);
+
+    interface CalendarRow {
+        Long getId();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+        String getLocation();
+        Double getEntryFee();
+        Double getCashPrizeAmount();
+        Tournament.TournamentStatus getStatus();
+        Integer getMinimumParticipants();
+        Integer getMaximumParticipants();
+        Integer getParticipantCount();
+        Long getVersion();
+    }
+}
@@ -0,0 +1,32 @@
+package com.golfclub.repository;
+
+import com.golfclub.dto.RevenueSummary;
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface TournamentRevenueRepo extends JpaRepository<TournamentRevenue, Long> {
+    List<TournamentRevenue> findByStatusOrderByRevenueDesc(Tournament.TournamentStatus status);
+
+    // Revenue is assigned first because MySQL evaluates SET clauses left to right
+    @Modifying
+    @Query("UPDATE TournamentRevenue r SET r.revenue = r.entryFee * (r.participantCount + :delta), " +
+            "r.participantCount = r.participantCount + :delta WHERE r.tournamentId = :tournamentId")
+    int applyParticipantDelta(@Param("tournamentId") Long tournamentId, @Param("delta") int delta);
+
+    // Revenue is a DECIMAL column; sums are read back as Double like the mapped attribute
+    @Query("SELECT CAST(SUM(r.revenue) AS Double) FROM TournamentRevenue r WHERE r.status = :status")
+    Double sumRevenueByStatus(@Param("status") Tournament.TournamentStatus status);
+
+    @Query("SELECT new com.golfclub.dto.RevenueSummary(r.location, COUNT(r), SUM(r.participantCount), CAST(SUM(r.revenue) AS Double)) " +
+            "FROM TournamentRevenue r WHERE r.status = :status GROUP BY r.location ORDER BY SUM(r.revenue) DESC")
+    List<RevenueSummary> summarizeByLocation(@Param("status") Tournament.TournamentStatus status);
+
+    @Query("SELECT new com.golfclub.dto.RevenueSummary(r.revenueMonth, COUNT(r), SUM(r.participantCount), CAST(SUM(r.revenue) AS Double)) " +
+            "FROM TournamentRevenue r WHERE r.status = :status GROUP BY r.revenueMonth ORDER BY r.revenueMonth ASC")
+    List<RevenueSummary> summarizeByMonth(@Param("status") Tournament.TournamentStatus status);
+}
@@ -0,0 +1,206 @@
+package com.golfclub.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.golfclub.repository.ExportJdbcRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+// Writes flat member and tournament rows as CSV or NDJSON while the result set is being read,
+// so memory use does not depend on the number of rows. Member CSV columns match the import header.
+@Service
+public class ExportService {
+    private final ExportJdbcRepo exportRepository;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public enum Format {
+        CSV("csv", "text/csv"),
+        NDJSON("ndjson", "application/x-ndjson");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Format parse(String format) {
+            return switch (format.toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "ndjson", "jsonl" -> NDJSON;
+                default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+            };
+        }
+    }
+
+    @Autowired
+    public ExportService(ExportJdbcRepo exportRepository) {
+        this.exportRepository = exportRepository;
+    }
+
+    public void exportMembers(Format format, OutputStream out) throws IOException {
+        export(format, ExportJdbcRepo.MEMBER_COLUMNS, out, exportRepository::streamMembers);
+    }
+
+    public void exportTournaments(Format format, OutputStream out) throws IOException {
+        export(format, ExportJdbcRepo.TOURNAMENT_COLUMNS, out, exportRepository::streamTournaments);
+    }
+
+    private void export(Format format, List<String> columns, OutputStream out,
+                        Consumer<RowCallbackHandler> source)
+            throws IOException {
+        RowWriter writer = format == Format.CSV ? new CsvRowWriter(out, columns) : new NdjsonRowWriter(out, columns);
+        try {
+            source.accept(rs -> {
+                try {
+                    writer.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+    }
+
+    // Dates as ISO strings, numbers as numbers, everything else as text
+    private static Object value(ResultSet rs, int column, int type) throws SQLException {
+        if (type == Types.DATE) {
+            Date date = rs.getDate(column);
+            return date == null ? null : date.toLocalDate().toString();
+        }
+        Object value = rs.getObject(column);
+        return value instanceof Number || value == null ? value : value.toString();
+    }
+
+    private abstract static class RowWriter {
+        private int[] columnTypes;
+
+        void write(ResultSet rs) throws SQLException, IOException {
+            if (columnTypes == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                columnTypes = new int[metaData.getColumnCount()];
+                for (int i = 0; i < columnTypes.length; i++) {
+                    columnTypes[i] = metaData.getColumnType(i + 1);
+                }
+            }
+            writeRow(rs, columnTypes);
+        }
+
+        abstract void writeRow(ResultSet rs, int[] columnTypes) throws SQLException, IOException;
+
+        abstract void finish() throws IOException;
+    }
+
+    private static class CsvRowWriter extends RowWriter {
+        private final Writer writer;
+        private final int columnCount;
+
+        CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            this.columnCount = columns.size();
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(ResultSet rs, int[] columnTypes) throws SQLException, IOException {
+            for (int column = 1; column <= columnCount; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                Object value = value(rs, column, columnTypes[column - 1]);
+                if (value instanceof String text) {
+                    writer.write(escape(text));
+                } else if (value instanceof BigDecimal decimal) {
+                    writer.write(decimal.toPlainString());
+                } else if (value != null) {
+                    writer.write(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180 quoting; text that a spreadsheet would evaluate as a formula is prefixed with a quote
+        private static String escape(String text) {
+            if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private class NdjsonRowWriter extends RowWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+
+        NdjsonRowWriter(OutputStream out, List<String> columns) throws IOException {
+            this.generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+            this.columns = columns;
+        }
+
+        @Override
+        void writeRow(ResultSet rs, int[] columnTypes) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int column = 1; column <= columns.size(); column++) {
+                generator.writeFieldName(columns.get(column - 1));
+                Object value = value(rs, column, columnTypes[column - 1]);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else if (value instanceof Double || value instanceof Float) {
+                    generator.writeNumber(((Number) value).doubleValue());
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString((String) value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.golfclub.service;
+
+import com.golfclub.repository.MemberRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory standings by tournaments played and by winnings, plus tournaments played per season
+// (the calendar year a tournament starts in). Boards are loaded once at startup and then moved
+// forward by the changes each tournament completion commits, rather than re-sorting members per query.
+//
+// A completion is recorded with each participant's row version after the update. While a rebuild is
+// loading, changes are held back and replayed afterwards, skipping any the loaded snapshot already has.
+@Component
+public class Leaderboard {
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    public enum Board {
+        PLAYED, WINNINGS;
+
+        public static Board parse(String board) {
+            try {
+                return valueOf(board.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown leaderboard: " + board);
+            }
+        }
+    }
+
+    private final MemberRepo memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Boards boards = new Boards();
+    private List<Change> pendingChanges;
+    private volatile boolean ready;
+
+    @Autowired
+    public Leaderboard(MemberRepo memberRepository, PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Boards loaded = new Boards();
+        Map<Long, Long> loadedVersions = new HashMap<>();
+        Long afterId = 0L;
+        int loadedCount;
+        do {
+            Long from = afterId;
+            List<MemberRepo.StandingsRow> rows = readOnlyTransaction.execute(status -> loadChunk(from, loaded));
+            for (MemberRepo.StandingsRow row : rows) {
+                loadedVersions.put(row.getId(), row.getVersion());
+            }
+            loadedCount = rows.size();
+            if (!rows.isEmpty()) {
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } while (loadedCount == LOAD_CHUNK_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : pendingChanges) {
+                if (change.removed || change.version > loadedVersions.getOrDefault(change.memberId, Long.MIN_VALUE)) {
+                    change.applyTo(loaded);
+                }
+            }
+            pendingChanges = null;
+            boards = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+    }
+
+    // Member totals and their per-season counts come from the same transaction, so they agree with the version
+    private List<MemberRepo.StandingsRow> loadChunk(Long afterId, Boards target) {
+        List<MemberRepo.StandingsRow> rows = memberRepository.findStandingsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        for (MemberRepo.StandingsRow row : rows) {
+            target.played.put(row.getId(), row.getTotalTournamentsPlayed() == null ? 0 : row.getTotalTournamentsPlayed());
+            target.winnings.put(row.getId(), toCents(row.getTotalWinnings()));
+        }
+        List<Long> ids = rows.stream().map(MemberRepo.StandingsRow::getId).toList();
+        for (MemberRepo.SeasonPlayed seasonPlayed : memberRepository.findSeasonPlayed(ids)) {
+            target.season(seasonPlayed.getSeason()).put(seasonPlayed.getMemberId(), seasonPlayed.getPlayed());
+        }
+        return rows;
+    }
+
+    // Every participant played one more tournament; prize winners also gain their prize.
+    // Must be called after the member updates, inside the completing transaction.
+    public void recordCompletionAfterCommit(int season, List<MemberRepo.IdAndVersion> participants,
+                                            Map<Long, Double> prizes) {
+        List<Change> changes = new ArrayList<>(participants.size());
+        for (MemberRepo.IdAndVersion participant : participants) {
+            changes.add(Change.completion(participant.getId(), participant.getVersion(), season,
+                    toCents(prizes.get(participant.getId()))));
+        }
+        afterCommit(() -> apply(changes));
+    }
+
+    public void removeAfterCommit(Long memberId) {
+        afterCommit(() -> apply(List.of(Change.removal(memberId))));
+    }
+
+    private void apply(List<Change> changes) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            }
+            for (Change change : changes) {
+                change.applyTo(boards);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public int size(Board board, Integer season) {
+        lock.readLock().lock();
+        try {
+            RankedStandings standings = standings(board, season);
+            return standings == null ? 0 : standings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Integer> seasons() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(boards.playedBySeason.descendingKeySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<RankedStandings.Standing> page(Board board, Integer season, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RankedStandings standings = standings(board, season);
+            return standings == null ? List.of() : standings.page(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    RankedStandings.Standing standingOf(Board board, Integer season, Long memberId) {
+        lock.readLock().lock();
+        try {
+            RankedStandings standings = standings(board, season);
+            if (standings == null) {
+                return null;
+            }
+            int rank = standings.rankOf(memberId);
+            return rank == 0 ? null : new RankedStandings.Standing(memberId, standings.scoreOf(memberId), rank);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RankedStandings standings(Board board, Integer season) {
+        if (season == null) {
+            return board == Board.PLAYED ? boards.played : boards.winnings;
+        }
+        if (board != Board.PLAYED) {
+            throw new IllegalArgumentException("Season standings are only kept for tournaments played");
+        }
+        return boards.playedBySeason.get(season);
+    }
+
+    // Winnings are ranked in whole cents so equal totals tie exactly
+    static long toCents(Double amount) {
+        return amount == null ? 0 : Math.round(amount * 100);
+    }
+
+    private static class Boards {
+        private final RankedStandings played = new RankedStandings();
+        private final RankedStandings winnings = new RankedStandings();
+        private final TreeMap<Integer, RankedStandings> playedBySeason = new TreeMap<>();
+
+        RankedStandings season(int season) {
+            return playedBySeason.computeIfAbsent(season, key -> new RankedStandings());
+        }
+    }
+
+    private static class Change {
+        private final long memberId;
+        private final long version;
+        private final int season;
+        private final long winningsCents;
+        private final boolean removed;
+
+        private Change(long memberId, long version, int season, long winningsCents, boolean removed) {
+            this.memberId = memberId;
+            this.version = version;
+            this.season = season;
+            this.winningsCents = winningsCents;
+            this.removed = removed;
+        }
+
+        static Change completion(Long memberId, Long version, int season, long winningsCents) {
+            return new Change(memberId, version == null ? 0 : version, season, winningsCents, false);
+        }
+
+        static Change removal(Long memberId) {
+            return new Change(memberId, 0, 0, 0, true);
+        }
+
+        void applyTo(Boards target) {
+            if (removed) {
+                target.played.remove(memberId);
+                target.winnings.remove(memberId);
+                target.playedBySeason.values().forEach(standings -> standings.remove(memberId));
+                return;
+            }
+            target.played.add(memberId, 1);
+            target.season(season).add(memberId, 1);
+            if (winningsCents > 0) {
+                target.winnings.add(memberId, winningsCents);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.golfclub.service;
+
+import com.golfclub.dto.LeaderboardEntry;
+import com.golfclub.dto.LeaderboardPage;
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.repository.MemberRepo;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "golfclub.service", histogram = true)
+public class LeaderboardService {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final Leaderboard leaderboard;
+    private final MemberRepo memberRepository;
+
+    @Autowired
+    public LeaderboardService(Leaderboard leaderboard, MemberRepo memberRepository) {
+        this.leaderboard = leaderboard;
+        this.memberRepository = memberRepository;
+    }
+
+    public LeaderboardPage getStandings(Leaderboard.Board board, Integer season, int offset, int limit) {
+        checkReady();
+        int from = Math.max(0, offset);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<RankedStandings.Standing> standings = leaderboard.page(board, season, from, pageSize);
+        return new LeaderboardPage(board.name().toLowerCase(Locale.ROOT), season, leaderboard.size(board, season),
+                from, withNames(board, standings));
+    }
+
+    public Optional<LeaderboardEntry> getStanding(Leaderboard.Board board, Integer season, Long memberId) {
+        checkReady();
+        RankedStandings.Standing standing = leaderboard.standingOf(board, season, memberId);
+        if (standing == null) {
+            return Optional.empty();
+        }
+        return withNames(board, List.of(standing)).stream().findFirst();
+    }
+
+    public List<Integer> getSeasons() {
+        checkReady();
+        return leaderboard.seasons();
+    }
+
+    private void checkReady() {
+        if (!leaderboard.isReady()) {
+            throw new IllegalStateException("Leaderboard is still loading");
+        }
+    }
+
+    // One primary-key lookup for the names on the page; members deleted since are left out
+    private List<LeaderboardEntry> withNames(Leaderboard.Board board, List<RankedStandings.Standing> standings) {
+        if (standings.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = standings.stream().map(RankedStandings.Standing::getMemberId).toList();
+        Map<Long, MemberSummary> byId = memberRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(MemberSummary::getId, Function.identity()));
+        List<LeaderboardEntry> entries = new ArrayList<>(standings.size());
+        for (RankedStandings.Standing standing : standings) {
+            MemberSummary member = byId.get(standing.getMemberId());
+            if (member != null) {
+                Number score = standing.getScore();
+                if (board == Leaderboard.Board.WINNINGS) {
+                    score = standing.getScore() / 100.0;
+                }
+                entries.add(new LeaderboardEntry(standing.getRank(), member.getId(), member.getMemberName(), score));
+            }
+        }
+        return entries;
+    }
+}
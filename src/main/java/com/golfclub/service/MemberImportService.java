@@ -0,0 +1,313 @@
+package com.golfclub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.golfclub.dto.MemberImportReport;
+import com.golfclub.model.Member;
+import com.golfclub.repository.MemberJdbcRepo;
+import com.golfclub.repository.MemberRepo;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Streams a CSV or NDJSON upload line by line and imports it in chunks. Each chunk is checked against
+// the database with one lookup per unique column, then inserted as one JDBC batch in its own transaction,
+// so a bad row never aborts the rows around it.
+@Service
+@Timed(value = "golfclub.service", histogram = true)
+public class MemberImportService {
+    private static final List<String> CSV_COLUMNS = List.of(
+            "memberName", "memberAddress", "memberEmail", "memberPhone", "startDate", "duration");
+
+    private final MemberRepo memberRepository;
+    private final MemberJdbcRepo memberJdbcRepository;
+    private final MemberSearchIndex searchIndex;
+    private final Validator validator;
+    private final ObjectReader memberReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        // An explicit format wins, then the file extension, then the content type
+        public static Format detect(String format, String filename, String contentType) {
+            if (format != null && !format.isBlank()) {
+                return switch (format.toLowerCase(Locale.ROOT)) {
+                    case "csv" -> CSV;
+                    case "ndjson", "jsonl" -> NDJSON;
+                    default -> throw new IllegalArgumentException("Unsupported import format: " + format);
+                };
+            }
+            String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Cannot determine import format; pass format=csv or format=ndjson");
+        }
+    }
+
+    @Autowired
+    public MemberImportService(MemberRepo memberRepository, MemberJdbcRepo memberJdbcRepository,
+                               MemberSearchIndex searchIndex, Validator validator, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${golfclub.import.chunk-size:500}") int chunkSize,
+                               @Value("${golfclub.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.memberRepository = memberRepository;
+        this.memberJdbcRepository = memberJdbcRepository;
+        this.searchIndex = searchIndex;
+        this.validator = validator;
+        this.memberReader = objectMapper.readerFor(Member.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public MemberImportReport importMembers(InputStream input, Format format) throws IOException {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = null;
+            List<PendingRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && columns == null) {
+                    columns = parseHeader(line);
+                    continue;
+                }
+                run.rowsRead++;
+                try {
+                    Member member = format == Format.CSV ? fromCsv(columns, line) : fromJson(line);
+                    String violations = validate(member);
+                    if (violations != null) {
+                        run.fail(lineNumber, violations);
+                        continue;
+                    }
+                    chunk.add(new PendingRow(lineNumber, member));
+                } catch (JsonProcessingException e) {
+                    run.fail(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                } catch (RuntimeException e) {
+                    run.fail(lineNumber, e.getMessage());
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(run, chunk);
+                    chunk.clear();
+                }
+            }
+            importChunk(run, chunk);
+        }
+        // Duplicate checks report at chunk boundaries, after the parse errors of later lines
+        run.errors.sort(Comparator.comparingLong(MemberImportReport.RowError::getLine));
+        return new MemberImportReport(run.rowsRead, run.imported, run.failed, run.errors, run.errorsTruncated);
+    }
+
+    private void importChunk(ImportRun run, List<PendingRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existingEmails = lowerCase(memberRepository.findExistingEmails(chunk.stream()
+                .map(row -> row.member.getMemberEmail())
+                .collect(Collectors.toSet())));
+        Set<String> existingPhones = new HashSet<>(memberRepository.findExistingPhones(chunk.stream()
+                .map(row -> row.member.getMemberPhone())
+                .filter(phone -> phone != null)
+                .collect(Collectors.toSet())));
+
+        List<PendingRow> accepted = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            String email = row.member.getMemberEmail().toLowerCase(Locale.ROOT);
+            String phone = row.member.getMemberPhone();
+            if (existingEmails.contains(email) || run.seenEmails.contains(email)) {
+                run.fail(row.line, "Email already exists");
+            } else if (phone != null && (existingPhones.contains(phone) || run.seenPhones.contains(phone))) {
+                run.fail(row.line, "Phone number already exists");
+            } else {
+                run.seenEmails.add(email);
+                if (phone != null) {
+                    run.seenPhones.add(phone);
+                }
+                accepted.add(row);
+            }
+        }
+
+        try {
+            insert(accepted);
+            run.imported += accepted.size();
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent writer; isolate the offending rows
+            for (PendingRow row : accepted) {
+                try {
+                    insert(List.of(row));
+                    run.imported++;
+                } catch (DataIntegrityViolationException rowFailure) {
+                    run.fail(row.line, "Email or phone number already exists");
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Member> members = rows.stream().map(row -> row.member).toList();
+            List<Long> ids = memberJdbcRepository.insertMembers(members);
+            for (int i = 0; i < ids.size(); i++) {
+                Member member = members.get(i);
+                searchIndex.putAfterCommit(ids.get(i), member.getMemberName(), member.getMemberPhone());
+            }
+        });
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> header = parseCsvLine(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private Member fromCsv(Map<String, Integer> columns, String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() < columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " columns but found " + values.size());
+        }
+        String phone = values.get(columns.get("memberPhone")).trim();
+        return new Member(
+                values.get(columns.get("memberName")).trim(),
+                values.get(columns.get("memberAddress")).trim(),
+                values.get(columns.get("memberEmail")).trim(),
+                phone.isEmpty() ? null : phone,
+                LocalDate.parse(values.get(columns.get("startDate")).trim()),
+                Integer.valueOf(values.get(columns.get("duration")).trim()));
+    }
+
+    private Member fromJson(String line) throws JsonProcessingException {
+        Member member = memberReader.readValue(line);
+        member.setId(null);
+        return member;
+    }
+
+    private String validate(Member member) {
+        Set<ConstraintViolation<Member>> violations = validator.validate(member);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    // RFC 4180 fields on a single line: commas inside quotes, doubled quotes as escapes
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Set<String> lowerCase(List<String> values) {
+        return values.stream().map(value -> value.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
+    private static class PendingRow {
+        private final long line;
+        private final Member member;
+
+        PendingRow(long line, Member member) {
+            this.line = line;
+            this.member = member;
+        }
+    }
+
+    // Only the unique keys seen so far are kept, so memory grows with the number of rows, not their size
+    private class ImportRun {
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenPhones = new HashSet<>();
+        private final List<MemberImportReport.RowError> errors = new ArrayList<>();
+        private int rowsRead;
+        private int imported;
+        private int failed;
+        private boolean errorsTruncated;
+
+        void fail(long line, String reason) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new MemberImportReport.RowError(line, reason));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package com.golfclub.service;
+
+import com.golfclub.repository.MemberRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory trigram index over member names and phone digits for type-ahead search.
+// Members are stored in dense int slots; each trigram maps to a sorted posting list of slots.
+// Postings are never pruned on update or delete: every candidate is re-checked against the
+// current value of its slot, so stale postings only cost a little extra verification.
+// MemberService hands over every committed write; a periodic full rebuild picks up writes made elsewhere
+// (other instances, bulk SQL) and starts over with dense slots and no stale postings. Until the first build,
+// or once the last successful one is older than the allowed staleness, isFresh() is false and searches go
+// to the database.
+@Component
+public class MemberSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(MemberSearchIndex.class);
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final int NAME_ALPHABET = 28;   // 0 = space or padding, 1-26 = a-z, 27 = anything else
+    private static final int PHONE_ALPHABET = 11;  // 0-9 = digits, 10 = padding
+    private static final int PHONE_PAD = 10;
+
+    private final MemberRepo memberRepository;
+    private final long maxStalenessMillis;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Slots current = new Slots();
+    // Non-null while a rebuild is reading the table; null values are removals
+    private Map<Long, Key> writesDuringRebuild;
+    private volatile long loadedAtMillis;
+
+    @Autowired
+    public MemberSearchIndex(MemberRepo memberRepository,
+                             @Value("${golfclub.search-index.max-staleness-ms:900000}") long maxStalenessMillis) {
+        this.memberRepository = memberRepository;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    public boolean isFresh() {
+        long loadedAt = loadedAtMillis;
+        return loadedAt > 0 && System.currentTimeMillis() - loadedAt <= maxStalenessMillis;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Runs once the server is accepting requests; searches fall back to the database until it finishes
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    // Builds a new index outside the lock, then swaps it in; searches keep answering from the old one meanwhile
+    @Scheduled(fixedDelayString = "${golfclub.search-index.rebuild-ms:300000}",
+            initialDelayString = "${golfclub.search-index.rebuild-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Slots rebuilt = new Slots();
+        try {
+            Long afterId = 0L;
+            List<MemberRepo.SearchKey> chunk;
+            do {
+                chunk = memberRepository.findSearchKeysAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (MemberRepo.SearchKey key : chunk) {
+                    rebuilt.index(key.getId(), key.getMemberName(), key.getMemberPhone());
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Member search index rebuild failed; searching the database once it is stale", e);
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Writes that committed while loading are at least as new as what the chunks saw
+            writesDuringRebuild.forEach((id, key) -> {
+                if (key == null) {
+                    rebuilt.remove(id);
+                } else {
+                    rebuilt.index(id, key.name, key.phone);
+                }
+            });
+            writesDuringRebuild = null;
+            current = rebuilt;
+            loadedAtMillis = System.currentTimeMillis();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Long id, String name, String phone) {
+        lock.writeLock().lock();
+        try {
+            current.index(id, name, phone);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.put(id, new Key(name, phone));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            current.remove(id);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Index changes must only become visible once the member row is committed
+    public void putAfterCommit(Long id, String name, String phone) {
+        afterCommit(() -> put(id, name, phone));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> remove(id));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Ranked: exact name, then name prefix, then word prefix, then any infix; shorter names first
+    public List<Long> searchByName(String query, int limit) {
+        String q = normalizeName(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Slots slots = current;
+            int[] candidates = q.length() >= 3
+                    ? intersect(slots.nameGrams, nameGramKeys(q, false))
+                    : union(slots.nameGrams, shortNameKeys(q));
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.ORDER.reversed());
+            for (int slot : candidates) {
+                String name = slots.names[slot];
+                if (name == null) {
+                    continue;
+                }
+                int rank;
+                if (name.equals(q)) {
+                    rank = 0;
+                } else if (name.startsWith(q)) {
+                    rank = 1;
+                } else if (name.contains(" " + q)) {
+                    rank = 2;
+                } else if (q.length() >= 3 && name.contains(q)) {
+                    rank = 3;
+                } else {
+                    continue;
+                }
+                offer(top, new Hit(slots.ids[slot], rank, name.length()), limit);
+            }
+            return drain(top);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ranked: exact number, then number prefix, then any infix
+    public List<Long> searchByPhone(String query, int limit) {
+        String q = digits(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Slots slots = current;
+            int[] candidates = q.length() >= 3
+                    ? intersect(slots.phoneGrams, phoneGramKeys(q, false))
+                    : union(slots.phoneGrams, shortPhoneKeys(q));
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.ORDER.reversed());
+            for (int slot : candidates) {
+                String phone = slots.phones[slot];
+                if (phone == null) {
+                    continue;
+                }
+                int rank;
+                if (phone.equals(q)) {
+                    rank = 0;
+                } else if (phone.startsWith(q)) {
+                    rank = 1;
+                } else if (q.length() >= 3 && phone.contains(q)) {
+                    rank = 2;
+                } else {
+                    continue;
+                }
+                offer(top, new Hit(slots.ids[slot], rank, phone.length()), limit);
+            }
+            return drain(top);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Postings postings(Postings[] grams, int key) {
+        if (grams[key] == null) {
+            grams[key] = new Postings();
+        }
+        return grams[key];
+    }
+
+    private static int[] intersect(Postings[] grams, int[] keys) {
+        List<Postings> lists = new ArrayList<>();
+        for (int key : keys) {
+            if (grams[key] == null) {
+                return new int[0];
+            }
+            lists.add(grams[key]);
+        }
+        lists.sort(Comparator.comparingInt(postings -> postings.size));
+        Postings smallest = lists.get(0);
+        int[] result = new int[smallest.size];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size; i++) {
+            int slot = smallest.slots[i];
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(slot)) {
+                    continue outer;
+                }
+            }
+            result[count++] = slot;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] union(Postings[] grams, int[] keys) {
+        int total = 0;
+        for (int key : keys) {
+            total += grams[key] == null ? 0 : grams[key].size;
+        }
+        int[] result = new int[total];
+        int count = 0;
+        for (int key : keys) {
+            if (grams[key] != null) {
+                System.arraycopy(grams[key].slots, 0, result, count, grams[key].size);
+                count += grams[key].size;
+            }
+        }
+        return Arrays.stream(result, 0, count).distinct().toArray();
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (Hit.ORDER.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private static List<Long> drain(PriorityQueue<Hit> top) {
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(Hit.ORDER);
+        return hits.stream().map(hit -> hit.id).toList();
+    }
+
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    static String digits(String phone) {
+        return phone == null ? "" : phone.replaceAll("\\D", "");
+    }
+
+    private static int nameCode(char c) {
+        if (c == ' ') {
+            return 0;
+        }
+        return c >= 'a' && c <= 'z' ? c - 'a' + 1 : 27;
+    }
+
+    // Indexed values are padded with two leading blanks so one- and two-letter prefixes have trigrams
+    private static int[] nameGramKeys(String text, boolean padded) {
+        int[] codes = new int[text.length() + (padded ? 2 : 0)];
+        int offset = padded ? 2 : 0;
+        for (int i = 0; i < text.length(); i++) {
+            codes[offset + i] = nameCode(text.charAt(i));
+        }
+        return gramKeys(codes, NAME_ALPHABET);
+    }
+
+    // One or two letters: match the start of any word (blank, then the query)
+    private static int[] shortNameKeys(String q) {
+        int first = nameCode(q.charAt(0));
+        if (q.length() == 2) {
+            return new int[]{first * NAME_ALPHABET + nameCode(q.charAt(1))};
+        }
+        int[] keys = new int[NAME_ALPHABET];
+        for (int c = 0; c < NAME_ALPHABET; c++) {
+            keys[c] = first * NAME_ALPHABET + c;
+        }
+        return keys;
+    }
+
+    private static int[] phoneGramKeys(String digits, boolean padded) {
+        int offset = padded ? 2 : 0;
+        int[] codes = new int[digits.length() + offset];
+        Arrays.fill(codes, 0, offset, PHONE_PAD);
+        for (int i = 0; i < digits.length(); i++) {
+            codes[offset + i] = digits.charAt(i) - '0';
+        }
+        return gramKeys(codes, PHONE_ALPHABET);
+    }
+
+    // One or two digits: match the start of the number
+    private static int[] shortPhoneKeys(String q) {
+        int first = q.charAt(0) - '0';
+        if (q.length() == 2) {
+            return new int[]{(PHONE_PAD * PHONE_ALPHABET + first) * PHONE_ALPHABET + (q.charAt(1) - '0')};
+        }
+        return new int[]{(PHONE_PAD * PHONE_ALPHABET + PHONE_PAD) * PHONE_ALPHABET + first};
+    }
+
+    private static int[] gramKeys(int[] codes, int alphabet) {
+        if (codes.length < 3) {
+            return new int[0];
+        }
+        int[] keys = new int[codes.length - 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (codes[i] * alphabet + codes[i + 1]) * alphabet + codes[i + 2];
+        }
+        return keys;
+    }
+
+    // One generation of the index: slots are only reclaimed by building a new generation
+    private static class Slots {
+        private final Map<Long, Integer> slotsById = new HashMap<>();
+        private final Postings[] nameGrams = new Postings[NAME_ALPHABET * NAME_ALPHABET * NAME_ALPHABET];
+        private final Postings[] phoneGrams = new Postings[PHONE_ALPHABET * PHONE_ALPHABET * PHONE_ALPHABET];
+        private long[] ids = new long[1024];
+        private String[] names = new String[1024];
+        private String[] phones = new String[1024];
+        private int slotCount;
+
+        void index(Long id, String name, String phone) {
+            Integer existing = slotsById.get(id);
+            int slot = existing != null ? existing : allocateSlot(id);
+            names[slot] = normalizeName(name);
+            phones[slot] = digits(phone);
+            for (int key : nameGramKeys(names[slot], true)) {
+                postings(nameGrams, key).add(slot);
+            }
+            for (int key : phoneGramKeys(phones[slot], true)) {
+                postings(phoneGrams, key).add(slot);
+            }
+        }
+
+        void remove(Long id) {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                names[slot] = null;
+                phones[slot] = null;
+            }
+        }
+
+        private int allocateSlot(Long id) {
+            if (slotCount == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                phones = Arrays.copyOf(phones, capacity);
+            }
+            int slot = slotCount++;
+            ids[slot] = id;
+            slotsById.put(id, slot);
+            return slot;
+        }
+    }
+
+    private static class Key {
+        private final String name;
+        private final String phone;
+
+        Key(String name, String phone) {
+            this.name = name;
+            this.phone = phone;
+        }
+    }
+
+    private static class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == 0 || slots[size - 1] < slot) {
+                ensureCapacity();
+                slots[size++] = slot;
+                return;
+            }
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0) {
+                return;
+            }
+            int insertAt = -at - 1;
+            ensureCapacity();
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length + (slots.length >> 1) + 1);
+            }
+        }
+    }
+
+    private static class Hit {
+        static final Comparator<Hit> ORDER = Comparator.<Hit>comparingInt(hit -> hit.rank)
+                .thenComparingInt(hit -> hit.length)
+                .thenComparingLong(hit -> hit.id);
+
+        private final long id;
+        private final int rank;
+        private final int length;
+
+        Hit(long id, int rank, int length) {
+            this.id = id;
+            this.rank = rank;
+            this.length = length;
+        }
+    }
+}
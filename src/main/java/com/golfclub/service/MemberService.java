@@ -1,27 +1,75 @@
 package com.golfclub.service;
 
+import com.golfclub.config.CacheConfig;
+import com.golfclub.dto.KeysetPage;
+import com.golfclub.dto.MemberPatch;
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.dto.VersionStamp;
 import com.golfclub.model.Member;
+import com.golfclub.repository.MemberJdbcRepo;
 import com.golfclub.repository.MemberRepo;
+import com.golfclub.repository.TournamentJdbcRepo;
+import com.golfclub.repository.TournamentRepo;
+import com.golfclub.repository.TournamentRevenueRepo;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "golfclub.service", histogram = true)
 public class MemberService {
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int MAX_EXPIRY_WINDOW_DAYS = 366;
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final MemberRepo memberRepository;
+    private final MemberJdbcRepo memberJdbcRepository;
+    private final MemberSearchIndex searchIndex;
+    private final TournamentRepo tournamentRepository;
+    private final TournamentJdbcRepo tournamentJdbcRepository;
+    private final TournamentRevenueRepo revenueRepository;
+    private final Leaderboard leaderboard;
+    private final TournamentCalendar calendar;
+    private final EntityManager entityManager;
 
     @Autowired
-    public MemberService(MemberRepo memberRepository) {
+    public MemberService(MemberRepo memberRepository, MemberJdbcRepo memberJdbcRepository, MemberSearchIndex searchIndex,
+                         TournamentRepo tournamentRepository, TournamentJdbcRepo tournamentJdbcRepository,
+                         TournamentRevenueRepo revenueRepository, Leaderboard leaderboard, TournamentCalendar calendar,
+                         EntityManager entityManager) {
         this.memberRepository = memberRepository;
+        this.memberJdbcRepository = memberJdbcRepository;
+        this.searchIndex = searchIndex;
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentJdbcRepository = tournamentJdbcRepository;
+        this.revenueRepository = revenueRepository;
+        this.leaderboard = leaderboard;
+        this.calendar = calendar;
+        this.entityManager = entityManager;
     }
 
     public Member saveMember(Member member) {
         validateMember(member);
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        searchIndex.putAfterCommit(saved.getId(), saved.getMemberName(), saved.getMemberPhone());
+        return saved;
     }
 
     private void validateMember(Member member) {
@@ -35,6 +83,7 @@ public class MemberService {
         }
     }
 
+    @Cacheable(cacheNames = CacheConfig.MEMBERS, key = "#id", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<Member> getMemberById(Long id) {
         return memberRepository.findById(id);
@@ -45,10 +94,78 @@ public class MemberService {
         return memberRepository.findAll();
     }
 
+    // Versions only, for revalidating a client's ETag without loading the member
+    @Transactional(readOnly = true)
+    public VersionStamp getMemberVersionStamp(Long id) {
+        return memberRepository.findVersionStampById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getMembersVersionStamp() {
+        return memberRepository.findVersionStamp();
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Member> getMembersPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long afterId = cursor == null || cursor.isBlank() ? 0L : parseMemberCursor(cursor);
+        List<Member> rows = memberRepository.findPageAfter(afterId, PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<Member> items = rows.subList(0, pageSize);
+        return new KeysetPage<>(items, String.valueOf(items.get(pageSize - 1).getId()));
+    }
+
+    private Long parseMemberCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // Walks the table in id order one chunk at a time, clearing the persistence
+    // context between chunks so memory stays flat regardless of table size.
+    @Transactional(readOnly = true)
+    public void streamAllMembers(Consumer<Member> consumer) {
+        Long afterId = 0L;
+        List<Member> chunk;
+        do {
+            chunk = memberRepository.findPageAfter(afterId, PageRequest.of(0, STREAM_CHUNK_SIZE));
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+            entityManager.clear();
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
+
+    // Cached tournaments embed their participants, so member writes drop those too
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public void deleteMember(Long id) {
+        // The database drops the member's registrations; the seats and revenue they held are released here first
+        List<Long> tournamentIds = tournamentJdbcRepository.findTournamentIdsOf(id);
+        if (!tournamentIds.isEmpty()) {
+            tournamentJdbcRepository.releaseSeatsOf(id);
+            tournamentIds.forEach(tournamentId -> revenueRepository.applyParticipantDelta(tournamentId, -1));
+        }
         memberRepository.deleteById(id);
+        tournamentIds.forEach(tournamentId ->
+                tournamentRepository.findCalendarRowById(tournamentId).ifPresent(calendar::putAfterCommit));
+        searchIndex.removeAfterCommit(id);
+        leaderboard.removeAfterCommit(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public Member updateMember(Long id, Member updatedMember) {
         return memberRepository.findById(id)
                 .map(existing -> {
@@ -61,63 +178,140 @@ public class MemberService {
                     existing.setMemberPhone(updatedMember.getMemberPhone());
                     existing.setStartDate(updatedMember.getStartDate());
                     existing.setDuration(updatedMember.getDuration());
-                    return memberRepository.save(existing);
+                    Member saved = memberRepository.save(existing);
+                    searchIndex.putAfterCommit(saved.getId(), saved.getMemberName(), saved.getMemberPhone());
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Member not found"));
     }
 
+    // Writes only the patched columns, guarded by the version the client last read (unguarded when null). Empty
+    // when the member does not exist; an OptimisticLockingFailureException when it has changed since that version.
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
+    public Optional<VersionStamp> patchMember(Long id, Long expectedVersion, MemberPatch patch) {
+        if (!patch.hasChanges()) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        if (patch.getMemberEmail() != null && memberRepository.existsByMemberEmailAndIdNot(patch.getMemberEmail(), id)) {
+            throw new IllegalStateException("Email already exists");
+        }
+        if (patch.getMemberPhone() != null && memberRepository.existsByMemberPhoneAndIdNot(patch.getMemberPhone(), id)) {
+            throw new IllegalStateException("Phone number already exists");
+        }
+        if (memberJdbcRepository.updateMember(id, expectedVersion, patch) == 0) {
+            if (expectedVersion == null || memberRepository.findVersionStampById(id).getRowCount() == 0) {
+                return Optional.empty();
+            }
+            throw new OptimisticLockingFailureException("Member was modified since version " + expectedVersion);
+        }
+        if (patch.getMemberName() != null || patch.getMemberPhone() != null) {
+            memberRepository.findSearchKeyById(id).ifPresent(key ->
+                    searchIndex.putAfterCommit(id, key.getMemberName(), key.getMemberPhone()));
+        }
+        // Without an expected version the new one is only known by reading it back
+        return Optional.of(expectedVersion == null ? memberRepository.findVersionStampById(id)
+                : new VersionStamp(1L, id, expectedVersion + 1, 0L));
+    }
+
     @Transactional(readOnly = true)
-    public List<Member> searchByName(String name) {
-        return memberRepository.findByMemberNameContainingIgnoreCase(name);
+    public List<MemberSummary> searchByName(String name, int limit) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndex.isFresh()) {
+            return memberRepository.findByMemberNameContainingIgnoreCase(name, PageRequest.of(0, maxResults));
+        }
+        return loadRanked(searchIndex.searchByName(name, maxResults));
     }
 
     @Transactional(readOnly = true)
-    public List<Member> searchByPhone(String phone) {
-        return memberRepository.findByMemberPhoneContaining(phone);
+    public List<MemberSummary> searchByPhone(String phone, int limit) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndex.isFresh()) {
+            return memberRepository.findByMemberPhoneContaining(phone, PageRequest.of(0, maxResults));
+        }
+        return loadRanked(searchIndex.searchByPhone(phone, maxResults));
+    }
+
+    // One primary-key lookup for the whole result page, returned in index rank order
+    private List<MemberSummary> loadRanked(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MemberSummary> byId = memberRepository.findByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(MemberSummary::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional(readOnly = true)
-    public List<Member> findByStatus(Member.MembershipStatus status) {
+    public List<MemberSummary> findByStatus(Member.MembershipStatus status) {
         return memberRepository.findByStatus(status);
     }
 
     @Transactional(readOnly = true)
-    public List<Member> findByMinimumTournaments(Integer count) {
+    public List<MemberSummary> findByMinimumTournaments(Integer count) {
         return memberRepository.findByTotalTournamentsPlayedGreaterThan(count);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#memberId"),
+            @CacheEvict(cacheNames = {CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public void updateMemberStatus(Long memberId, Member.MembershipStatus status) {
-        memberRepository.findById(memberId)
-                .ifPresent(member -> {
-                    member.setStatus(status);
-                    memberRepository.save(member);
-                });
+        memberJdbcRepository.updateMember(memberId, null, MemberPatch.ofStatus(status));
     }
 
     @Transactional(readOnly = true)
-    public List<Member> findActiveMembers() {
+    public List<MemberSummary> findActiveMembers() {
         return memberRepository.findActiveMembers(LocalDate.now());
     }
 
     @Transactional(readOnly = true)
-    public List<Member> findByTournamentDate(LocalDate date) {
+    public List<MemberSummary> findExpiringMembers(int withinDays) {
+        LocalDate today = LocalDate.now();
+        int window = Math.max(0, Math.min(withinDays, MAX_EXPIRY_WINDOW_DAYS));
+        return memberRepository.findActiveExpiringBetween(today, today.plusDays(window));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MemberSummary> findByTournamentDate(LocalDate date) {
         return memberRepository.findByTournamentStartDate(date);
     }
 
     @Transactional(readOnly = true)
-    public List<Member> findTopParticipants() {
-        return memberRepository.findTopParticipants();
+    public List<MemberSummary> findTopParticipants(int limit) {
+        return memberRepository.findTopParticipants(PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#memberId"),
+            @CacheEvict(cacheNames = {CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public Member updateMembershipDuration(Long memberId, Integer additionalMonths) {
-        return memberRepository.findById(memberId)
-                .map(member -> {
-                    member.setDuration(member.getDuration() + additionalMonths);
-                    return memberRepository.save(member);
-                })
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+        if (additionalMonths == null || additionalMonths < 1) {
+            throw new IllegalArgumentException("Months must be at least 1");
+        }
+        if (memberJdbcRepository.extendMembership(memberId, additionalMonths, Member.MAX_DURATION_MONTHS) == 0) {
+            if (memberRepository.findVersionStampById(memberId).getRowCount() == 0) {
+                throw new IllegalArgumentException("Member not found");
+            }
+            throw new IllegalArgumentException("Membership duration cannot exceed " + Member.MAX_DURATION_MONTHS + " months");
+        }
+        return memberRepository.findById(memberId).orElseThrow();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#memberId"),
+            @CacheEvict(cacheNames = {CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public void checkMembershipStatus(Long memberId) {
         memberRepository.findById(memberId).ifPresent(member -> {
             if (member.isMembershipExpired()) {
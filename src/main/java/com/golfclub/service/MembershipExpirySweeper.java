@@ -0,0 +1,118 @@
+package com.golfclub.service;
+
+import com.golfclub.config.CacheConfig;
+import com.golfclub.repository.MemberRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Expires lapsed memberships in the background, walking the members table by primary-key range.
+// Every chunk is one UPDATE in its own short transaction, so row locks are released between chunks.
+@Component
+@ConditionalOnProperty(name = "golfclub.membership-expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class MembershipExpirySweeper {
+    private static final Logger log = LoggerFactory.getLogger(MembershipExpirySweeper.class);
+
+    private final MemberRepo memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    private final Counter expiredCounter;
+    private final Timer sweepTimer;
+    private final AtomicLong lastSweptId = new AtomicLong();
+    private final AtomicLong lastCompletedEpochSecond = new AtomicLong();
+
+    @Autowired
+    public MembershipExpirySweeper(MemberRepo memberRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   CacheManager cacheManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${golfclub.membership-expiry.chunk-size:1000}") int chunkSize,
+                                   @Value("${golfclub.membership-expiry.pause-ms:50}") long pauseMillis) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("golfclub.membership-expiry.chunk-size must be positive");
+        }
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.expiredCounter = Counter.builder("golfclub.membership.expiry.expired")
+                .description("Memberships moved to EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("golfclub.membership.expiry.sweep")
+                .description("Duration of a full expiry sweep")
+                .register(meterRegistry);
+        meterRegistry.gauge("golfclub.membership.expiry.last.swept.id", lastSweptId);
+        meterRegistry.gauge("golfclub.membership.expiry.last.completed", lastCompletedEpochSecond);
+    }
+
+    @Scheduled(cron = "${golfclub.membership-expiry.cron:0 5 * * * *}")
+    public void sweep() {
+        sweepTimer.record(() -> sweep(LocalDate.now()));
+    }
+
+    public int sweep(LocalDate today) {
+        Long maxId = memberRepository.findMaxId();
+        int expired = 0;
+        lastSweptId.set(0);
+        for (long afterId = 0; maxId != null && afterId < maxId; afterId += chunkSize) {
+            long from = afterId;
+            Integer updated = transactionTemplate.execute(status ->
+                    memberRepository.expireLapsedInRange(from, from + chunkSize, today));
+            if (updated != null && updated > 0) {
+                expired += updated;
+                expiredCounter.increment(updated);
+            }
+            lastSweptId.set(Math.min(from + chunkSize, maxId));
+            if (!pause()) {
+                break;
+            }
+        }
+        if (expired > 0) {
+            // Cached members and tournament rosters carry the old status
+            evictAll(CacheConfig.MEMBERS, CacheConfig.TOURNAMENTS, CacheConfig.UPCOMING_TOURNAMENTS,
+                    CacheConfig.AVAILABLE_TOURNAMENTS);
+            log.info("Expired {} lapsed memberships", expired);
+        }
+        lastCompletedEpochSecond.set(System.currentTimeMillis() / 1000);
+        return expired;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void evictAll(String... cacheNames) {
+        for (String name : cacheNames) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.golfclub.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Order-statistic treap of (score, member id), highest score first and lowest id first on ties.
+// Every node carries its subtree size, so positions and ranks are found in O(log n) expected time.
+// Members whose score drops to zero or below are removed. Not thread-safe; Leaderboard guards it.
+final class RankedStandings {
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    int size() {
+        return scores.size();
+    }
+
+    long scoreOf(long memberId) {
+        return scores.getOrDefault(memberId, 0L);
+    }
+
+    void add(long memberId, long delta) {
+        put(memberId, scoreOf(memberId) + delta);
+    }
+
+    void put(long memberId, long score) {
+        Long previous = score > 0 ? scores.put(memberId, score) : scores.remove(memberId);
+        if (previous != null) {
+            root = delete(root, previous, memberId);
+        }
+        if (score > 0) {
+            Node[] parts = split(root, score, memberId);
+            root = merge(merge(parts[0], new Node(score, memberId, random.nextInt())), parts[1]);
+        }
+    }
+
+    void remove(long memberId) {
+        put(memberId, 0);
+    }
+
+    // Competition ranking: members with equal scores share a rank and the next rank is skipped ("1224")
+    int rankOf(long memberId) {
+        Long score = scores.get(memberId);
+        return score == null ? 0 : countBefore(score, Long.MIN_VALUE) + 1;
+    }
+
+    List<Standing> page(int offset, int limit) {
+        List<Standing> standings = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        if (offset < 0 || offset >= size() || limit <= 0) {
+            return standings;
+        }
+        // Walk down to the node at position offset, keeping the ancestors still to be visited in order
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int skip = offset;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (skip < leftSize) {
+                path.push(node);
+                node = node.left;
+            } else if (skip == leftSize) {
+                path.push(node);
+                break;
+            } else {
+                skip -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        int rank = 0;
+        long previousScore = 0;
+        while (!path.isEmpty() && standings.size() < limit) {
+            Node next = path.pop();
+            int position = offset + standings.size();
+            if (standings.isEmpty()) {
+                rank = countBefore(next.score, Long.MIN_VALUE) + 1;
+            } else if (next.score != previousScore) {
+                rank = position + 1;
+            }
+            standings.add(new Standing(next.memberId, next.score, rank));
+            previousScore = next.score;
+            for (Node child = next.right; child != null; child = child.left) {
+                path.push(child);
+            }
+        }
+        return standings;
+    }
+
+    // Number of entries ordered ahead of (score, memberId)
+    private int countBefore(long score, long memberId) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (before(node.score, node.memberId, score, memberId)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static boolean before(long score, long memberId, long otherScore, long otherMemberId) {
+        return score > otherScore || (score == otherScore && memberId < otherMemberId);
+    }
+
+    // Left part holds every entry ordered ahead of (score, memberId), right part the rest
+    private static Node[] split(Node node, long score, long memberId) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (before(node.score, node.memberId, score, memberId)) {
+            Node[] parts = split(node.right, score, memberId);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, score, memberId);
+        node.left = parts[1];
+        node.update();
+        parts[1] = node;
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node delete(Node node, long score, long memberId) {
+        if (node == null) {
+            return null;
+        }
+        if (node.score == score && node.memberId == memberId) {
+            return merge(node.left, node.right);
+        }
+        if (before(score, memberId, node.score, node.memberId)) {
+            node.left = delete(node.left, score, memberId);
+        } else {
+            node.right = delete(node.right, score, memberId);
+        }
+        node.update();
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    static final class Standing {
+        private final long memberId;
+        private final long score;
+        private final int rank;
+
+        Standing(long memberId, long score, int rank) {
+            this.memberId = memberId;
+            this.score = score;
+            this.rank = rank;
+        }
+
+        long getMemberId() {
+            return memberId;
+        }
+
+        long getScore() {
+            return score;
+        }
+
+        int getRank() {
+            return rank;
+        }
+    }
+
+    private static final class Node {
+        private final long score;
+        private final long memberId;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(long score, long memberId, int priority) {
+            this.score = score;
+            this.memberId = memberId;
+            this.priority = priority;
+        }
+
+        void update() {
+            size = 1 + RankedStandings.size(left) + RankedStandings.size(right);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.golfclub.service;
+
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Runs registration changes one at a time per tournament (striped by id) and retries them with
+// jittered exponential backoff when they lose a race to a writer outside this instance.
+// The action must open and commit its own transaction, so callers pass a TournamentService call.
+@Component
+public class RegistrationExecutor {
+    private static final long MAX_BACKOFF_MS = 1000;
+
+    private final Lock[] stripes;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long lockTimeoutMs;
+
+    @Autowired
+    public RegistrationExecutor(@Value("${golfclub.registration.lock-stripes:64}") int lockStripes,
+                                @Value("${golfclub.registration.max-attempts:5}") int maxAttempts,
+                                @Value("${golfclub.registration.initial-backoff-ms:20}") long initialBackoffMs,
+                                @Value("${golfclub.registration.lock-timeout-ms:5000}") long lockTimeoutMs) {
+        this.stripes = new Lock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    public <T> T execute(Long tournamentId, Supplier<T> action) {
+        Lock lock = stripes[Math.floorMod(tournamentId.hashCode(), stripes.length)];
+        for (int attempt = 1; ; attempt++) {
+            acquire(lock);
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException | OptimisticLockException | DuplicateKeyException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+            // Back off without holding the stripe so other sign-ups keep flowing
+            sleep(backoff(attempt));
+        }
+    }
+
+    private void acquire(Lock lock) {
+        try {
+            if (!lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new CannotAcquireLockException("Timed out waiting for tournament registration lock");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted waiting for tournament registration lock", e);
+        }
+    }
+
+    private long backoff(int attempt) {
+        long base = Math.min(MAX_BACKOFF_MS, initialBackoffMs << Math.min(attempt - 1, 20));
+        return base + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted during registration retry backoff", e);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.golfclub.service;
+
+import com.golfclub.dto.TournamentSummary;
+import com.golfclub.model.Tournament;
+import com.golfclub.repository.TournamentRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// In-memory calendar of tournament rows (no participants) for date, status, venue and capacity lookups.
+// Entries are kept by start date, then id; an overlap query only walks start dates that can reach the
+// requested range, bounded by the longest tournament held. Scheduled tournaments with free seats are
+// also kept in their own map so "what is open" never scans the rest.
+// TournamentService hands over the committed row after every write; a periodic reload picks up writes
+// made elsewhere (other instances, bulk SQL). Until the first load, or once the last successful reload
+// is older than the allowed staleness, isFresh() is false and callers go to the database.
+@Component
+public class TournamentCalendar {
+    private static final Logger log = LoggerFactory.getLogger(TournamentCalendar.class);
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final TournamentRepo tournamentRepository;
+    private final long maxStalenessMillis;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Entry> byId = new HashMap<>();
+    private NavigableMap<LocalDate, NavigableMap<Long, Entry>> byStartDate = new TreeMap<>();
+    private NavigableMap<LocalDate, NavigableMap<Long, Entry>> openByStartDate = new TreeMap<>();
+    private long longestDays;
+    // Non-null while a reload is reading the table; null values are deletions
+    private Map<Long, Entry> writesDuringReload;
+    private volatile long loadedAtMillis;
+
+    @Autowired
+    public TournamentCalendar(TournamentRepo tournamentRepository,
+                              @Value("${golfclub.calendar.max-staleness-ms:300000}") long maxStalenessMillis) {
+        this.tournamentRepository = tournamentRepository;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    public boolean isFresh() {
+        long loadedAt = loadedAtMillis;
+        return loadedAt > 0 && System.currentTimeMillis() - loadedAt <= maxStalenessMillis;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // Reads the table outside the lock, then swaps it in; lookups keep answering from the old entries meanwhile
+    @Scheduled(fixedDelayString = "${golfclub.calendar.reload-ms:60000}",
+            initialDelayString = "${golfclub.calendar.reload-ms:60000}")
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            writesDuringReload = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<Long, Entry> loaded = new HashMap<>();
+        try {
+            Long afterId = 0L;
+            List<TournamentRepo.CalendarRow> chunk;
+            do {
+                chunk = tournamentRepository.findCalendarRowsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (TournamentRepo.CalendarRow row : chunk) {
+                    loaded.put(row.getId(), new Entry(row));
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Tournament calendar reload failed; serving from the database once it is stale", e);
+            lock.writeLock().lock();
+            try {
+                writesDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Writes that committed while loading may be newer than what the chunks saw
+            writesDuringReload.forEach((id, written) -> {
+                if (written == null) {
+                    loaded.remove(id);
+                } else if (written.isNewerThan(loaded.get(id))) {
+                    loaded.put(id, written);
+                }
+            });
+            writesDuringReload = null;
+            byId = new HashMap<>();
+            byStartDate = new TreeMap<>();
+            openByStartDate = new TreeMap<>();
+            longestDays = 0;
+            loaded.values().forEach(this::index);
+            loadedAtMillis = System.currentTimeMillis();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Rows arrive in commit order per tournament only loosely, so an older version never replaces a newer one
+    public void put(TournamentRepo.CalendarRow row) {
+        Entry entry = new Entry(row);
+        lock.writeLock().lock();
+        try {
+            Entry current = byId.get(entry.id);
+            if (entry.isNewerThan(current)) {
+                unindex(current);
+                index(entry);
+            }
+            if (writesDuringReload != null && entry.isNewerThan(writesDuringReload.get(entry.id))) {
+                writesDuringReload.put(entry.id, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(byId.get(id));
+            if (writesDuringReload != null) {
+                writesDuringReload.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Calendar changes must only become visible once the tournament row is committed
+    public void putAfterCommit(TournamentRepo.CalendarRow row) {
+        afterCommit(() -> put(row));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> remove(id));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Tournaments running at any point in [from, to], by start date then id; a null location matches every venue
+    public List<TournamentSummary> overlapping(LocalDate from, LocalDate to, String location, boolean openOnly) {
+        String locationKey = Tournament.toLocationKey(location);
+        lock.readLock().lock();
+        try {
+            NavigableMap<LocalDate, NavigableMap<Long, Entry>> dates = openOnly ? openByStartDate : byStartDate;
+            return collect(dates.subMap(from.minusDays(longestDays), true, to, true),
+                    entry -> !entry.summary.getEndDate().isBefore(from)
+                            && (locationKey == null || entry.locationKey.startsWith(locationKey)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> startingBetween(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            return ids(collect(byStartDate.subMap(from, true, to, true), entry -> true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> runningOn(LocalDate date) {
+        return ids(overlapping(date, date, null, false));
+    }
+
+    public List<Long> scheduledAfter(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            return ids(collect(byStartDate.tailMap(date, false),
+                    entry -> entry.summary.getStatus() == Tournament.TournamentStatus.SCHEDULED));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> open() {
+        lock.readLock().lock();
+        try {
+            return ids(collect(openByStartDate, entry -> true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<TournamentSummary> collect(Map<LocalDate, NavigableMap<Long, Entry>> dates,
+                                                   Predicate<Entry> filter) {
+        List<TournamentSummary> result = new ArrayList<>();
+        for (NavigableMap<Long, Entry> sameDay : dates.values()) {
+            for (Entry entry : sameDay.values()) {
+                if (filter.test(entry)) {
+                    result.add(entry.summary);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> ids(List<TournamentSummary> summaries) {
+        return summaries.stream().map(TournamentSummary::getId).toList();
+    }
+
+    private void index(Entry entry) {
+        byId.put(entry.id, entry);
+        add(byStartDate, entry);
+        if (entry.isOpen()) {
+            add(openByStartDate, entry);
+        }
+        longestDays = Math.max(longestDays,
+                ChronoUnit.DAYS.between(entry.summary.getStartDate(), entry.summary.getEndDate()));
+    }
+
+    // The longest span is not recalculated on removal; a too-wide bound only costs a few extra date keys
+    private void unindex(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        byId.remove(entry.id);
+        drop(byStartDate, entry);
+        drop(openByStartDate, entry);
+    }
+
+    private static void add(NavigableMap<LocalDate, NavigableMap<Long, Entry>> dates, Entry entry) {
+        dates.computeIfAbsent(entry.summary.getStartDate(), date -> new TreeMap<>()).put(entry.id, entry);
+    }
+
+    private static void drop(NavigableMap<LocalDate, NavigableMap<Long, Entry>> dates, Entry entry) {
+        NavigableMap<Long, Entry> sameDay = dates.get(entry.summary.getStartDate());
+        if (sameDay != null && sameDay.remove(entry.id) != null && sameDay.isEmpty()) {
+            dates.remove(entry.summary.getStartDate());
+        }
+    }
+
+    private static class Entry {
+        private final Long id;
+        private final long version;
+        private final String locationKey;
+        private final TournamentSummary summary;
+
+        Entry(TournamentRepo.CalendarRow row) {
+            this.id = row.getId();
+            this.version = row.getVersion() == null ? 0 : row.getVersion();
+            String key = Tournament.toLocationKey(row.getLocation());
+            this.locationKey = key == null ? "" : key;
+            this.summary = new TournamentSummary(row.getId(), row.getStartDate(), row.getEndDate(), row.getLocation(),
+                    row.getEntryFee(), row.getCashPrizeAmount(), row.getStatus(), row.getMinimumParticipants(),
+                    row.getMaximumParticipants(), row.getParticipantCount());
+        }
+
+        boolean isNewerThan(Entry other) {
+            return other == null || version >= other.version;
+        }
+
+        boolean isOpen() {
+            return summary.getStatus() == Tournament.TournamentStatus.SCHEDULED
+                    && summary.getParticipantCount() < summary.getMaximumParticipants();
+        }
+    }
+}
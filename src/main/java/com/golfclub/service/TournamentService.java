@@ -1,31 +1,80 @@
 package com.golfclub.service;
 
+import com.golfclub.config.CacheConfig;
+import com.golfclub.dto.KeysetPage;
+import com.golfclub.dto.MemberSummary;
+import com.golfclub.dto.RegistrationResult;
+import com.golfclub.dto.RevenueSummary;
+import com.golfclub.dto.TournamentPatch;
+import com.golfclub.dto.TournamentSummary;
+import com.golfclub.dto.VersionStamp;
 import com.golfclub.model.Member;
 import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentRevenue;
 import com.golfclub.repository.MemberRepo;
+import com.golfclub.repository.TournamentJdbcRepo;
 import com.golfclub.repository.TournamentRepo;
+import com.golfclub.repository.TournamentRevenueRepo;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "golfclub.service", histogram = true)
 public class TournamentService {
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_CALENDAR_DAYS = 366;
+    private static final int STREAM_CHUNK_SIZE = 200;
+
     private final TournamentRepo tournamentRepository;
     private final MemberRepo memberRepository;
+    private final TournamentJdbcRepo tournamentJdbcRepository;
+    private final TournamentRevenueRepo revenueRepository;
+    private final Leaderboard leaderboard;
+    private final TournamentCalendar calendar;
+    private final EntityManager entityManager;
 
     @Autowired
-    public TournamentService(TournamentRepo tournamentRepository, MemberRepo memberRepository) {
+    public TournamentService(TournamentRepo tournamentRepository, MemberRepo memberRepository,
+                             TournamentJdbcRepo tournamentJdbcRepository, TournamentRevenueRepo revenueRepository,
+                             Leaderboard leaderboard, TournamentCalendar calendar, EntityManager entityManager) {
         this.tournamentRepository = tournamentRepository;
         this.memberRepository = memberRepository;
+        this.tournamentJdbcRepository = tournamentJdbcRepository;
+        this.revenueRepository = revenueRepository;
+        this.leaderboard = leaderboard;
+        this.calendar = calendar;
+        this.entityManager = entityManager;
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
     public Tournament saveTournament(Tournament tournament) {
         validateTournament(tournament);
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        refreshRevenue(saved);
+        refreshCalendar(saved.getId());
+        return saved;
     }
 
     private void validateTournament(Tournament tournament) {
@@ -40,9 +89,10 @@ public class TournamentService {
         }
     }
 
+    @Cacheable(cacheNames = CacheConfig.TOURNAMENTS, key = "#id", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<Tournament> getTournamentById(Long id) {
-        return tournamentRepository.findById(id);
+        return tournamentRepository.findWithMembersById(id);
     }
 
     @Transactional(readOnly = true)
@@ -50,14 +100,90 @@ public class TournamentService {
         return tournamentRepository.findAllWithMembers();
     }
 
+    // Versions only, for revalidating a client's ETag without loading the tournament or its participants
+    @Transactional(readOnly = true)
+    public VersionStamp getTournamentVersionStamp(Long id) {
+        return tournamentRepository.findVersionStampById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getTournamentsVersionStamp() {
+        return tournamentRepository.findVersionStamp();
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Tournament> getTournamentsPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Tournament> rows = findPage(cursor, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(withMembers(rows), null);
+        }
+        List<Tournament> items = withMembers(rows.subList(0, pageSize));
+        return new KeysetPage<>(items, toCursor(items.get(pageSize - 1)));
+    }
+
+    // Seeks on (startDate, id) one chunk at a time, clearing the persistence
+    // context between chunks so memory stays flat regardless of table size.
+    @Transactional(readOnly = true)
+    public void streamAllTournaments(Consumer<Tournament> consumer) {
+        String cursor = null;
+        List<Tournament> chunk;
+        do {
+            chunk = withMembers(findPage(cursor, STREAM_CHUNK_SIZE));
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                cursor = toCursor(chunk.get(chunk.size() - 1));
+            }
+            entityManager.clear();
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
+
+    private List<Tournament> findPage(String cursor, int limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return tournamentRepository.findFirstPage(PageRequest.of(0, limit));
+        }
+        String[] parts = cursor.split(",", 2);
+        try {
+            return tournamentRepository.findPageAfter(LocalDate.parse(parts[0]), Long.parseLong(parts[1]),
+                    PageRequest.of(0, limit));
+        } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // Fetching participants by id keeps the LIMIT in SQL instead of paging a fetch join in memory
+    private List<Tournament> withMembers(List<Tournament> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+        return tournamentRepository.findAllWithMembersByIdIn(page.stream().map(Tournament::getId).toList());
+    }
+
+    private String toCursor(Tournament tournament) {
+        return tournament.getStartDate() + "," + tournament.getId();
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public void deleteTournament(Long id) {
         tournamentRepository.deleteById(id);
+        revenueRepository.deleteById(id);
+        calendar.removeAfterCommit(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public Tournament updateTournament(Long id, Tournament tournamentDetails) {
         return tournamentRepository.findById(id)
                 .map(existing -> {
                     validateTournament(tournamentDetails);
+                    if (tournamentDetails.getMaximumParticipants() < existing.getParticipantCount()) {
+                        throw new IllegalStateException("Maximum participants cannot be below the registered count");
+                    }
                     existing.setStartDate(tournamentDetails.getStartDate());
                     existing.setEndDate(tournamentDetails.getEndDate());
                     existing.setLocation(tournamentDetails.getLocation());
@@ -65,59 +191,209 @@ public class TournamentService {
                     existing.setCashPrizeAmount(tournamentDetails.getCashPrizeAmount());
                     existing.setMinimumParticipants(tournamentDetails.getMinimumParticipants());
                     existing.setMaximumParticipants(tournamentDetails.getMaximumParticipants());
-                    return tournamentRepository.save(existing);
+                    Tournament saved = tournamentRepository.save(existing);
+                    refreshRevenue(saved);
+                    refreshCalendar(id);
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
     }
 
+    // Writes only the patched columns, guarded by the version the client last read (unguarded when null). Empty
+    // when the tournament does not exist; an OptimisticLockingFailureException when it has changed since that
+    // version.
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
+    public Optional<VersionStamp> patchTournament(Long id, Long expectedVersion, TournamentPatch patch) {
+        if (!patch.hasChanges()) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        if (patch.getStartDate() != null && patch.getEndDate() != null && patch.getEndDate().isBefore(patch.getStartDate())) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        if (patch.getMinimumParticipants() != null && patch.getMaximumParticipants() != null
+                && patch.getMinimumParticipants() > patch.getMaximumParticipants()) {
+            throw new IllegalArgumentException("Minimum participants cannot be greater than maximum");
+        }
+        if (tournamentJdbcRepository.updateTournament(id, expectedVersion, patch) == 0) {
+            VersionStamp current = tournamentRepository.findVersionStampById(id);
+            if (current.getRowCount() == 0) {
+                return Optional.empty();
+            }
+            if (expectedVersion != null && current.getVersionSum() != expectedVersion) {
+                throw new OptimisticLockingFailureException("Tournament was modified since version " + expectedVersion);
+            }
+            // Same version, so the row guards rejected it: dates or limits would conflict with the stored values
+            throw new IllegalArgumentException(
+                    "End date cannot be before start date, and maximum participants cannot be below the minimum or the registered count");
+        }
+        tournamentJdbcRepository.updateRevenueDetails(id, patch);
+        refreshCalendar(id);
+        return Optional.of(tournamentRepository.findVersionStampById(id));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#tournamentId"),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public Tournament addMemberToTournament(Long tournamentId, Long memberId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
-        Member member = memberRepository.findById(memberId)
+        Member.MembershipStatus memberStatus = memberRepository.findStatusByIdIn(List.of(memberId)).stream()
+                .findFirst()
+                .map(MemberRepo.IdAndStatus::getStatus)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found"));
 
-        validateMemberRegistration(tournament, member);
-        tournament.addMember(member);
-        return tournamentRepository.save(tournament);
+        validateMemberRegistration(tournament, memberId, memberStatus);
+        if (tournamentRepository.reserveSeats(tournamentId, 1) == 0) {
+            throw new IllegalStateException("Tournament has reached maximum participants");
+        }
+        tournamentJdbcRepository.insertRegistrations(tournamentId, List.of(memberId));
+        revenueRepository.applyParticipantDelta(tournamentId, 1);
+        refreshCalendar(tournamentId);
+        return tournamentRepository.findById(tournamentId).orElseThrow();
     }
 
-    private void validateMemberRegistration(Tournament tournament, Member member) {
-        if (tournament.getParticipatingMembers().size() >= tournament.getMaximumParticipants()) {
+    private void validateMemberRegistration(Tournament tournament, Long memberId, Member.MembershipStatus memberStatus) {
+        if (tournament.getParticipantCount() >= tournament.getMaximumParticipants()) {
             throw new IllegalStateException("Tournament has reached maximum participants");
         }
-        if (member.getStatus() != Member.MembershipStatus.ACTIVE) {
+        if (memberStatus != Member.MembershipStatus.ACTIVE) {
             throw new IllegalStateException("Member is not active");
         }
         if (tournament.getStatus() != Tournament.TournamentStatus.SCHEDULED) {
             throw new IllegalStateException("Tournament is not open for registration");
         }
-        if (tournament.isMemberRegistered(member)) {
+        if (!tournamentRepository.findRegisteredMemberIds(tournament.getId(), List.of(memberId)).isEmpty()) {
             throw new IllegalStateException("Member is already registered");
         }
     }
 
-    public Tournament removeMemberFromTournament(Long tournamentId, Long memberId) {
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#tournamentId"),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
+    public RegistrationResult registerMembers(Long tournamentId, List<Long> memberIds) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+        if (tournament.getStatus() != Tournament.TournamentStatus.SCHEDULED) {
+            throw new IllegalStateException("Tournament is not open for registration");
+        }
+
+        List<RegistrationResult.Rejection> rejected = new ArrayList<>();
+        Set<Long> requested = new LinkedHashSet<>();
+        for (Long memberId : memberIds) {
+            if (memberId == null) {
+                rejected.add(new RegistrationResult.Rejection(null, "Member id is required"));
+            } else if (!requested.add(memberId)) {
+                rejected.add(new RegistrationResult.Rejection(memberId, "Duplicate member in request"));
+            }
+        }
+        if (requested.isEmpty()) {
+            return new RegistrationResult(tournamentId, List.of(), rejected);
+        }
+
+        Map<Long, Member.MembershipStatus> statuses = memberRepository.findStatusByIdIn(requested).stream()
+                .collect(Collectors.toMap(MemberRepo.IdAndStatus::getId, MemberRepo.IdAndStatus::getStatus));
+        Set<Long> alreadyRegistered = new HashSet<>(tournamentRepository.findRegisteredMemberIds(tournamentId, requested));
+        long seatsLeft = tournament.getMaximumParticipants() - tournament.getParticipantCount();
+
+        List<Long> accepted = new ArrayList<>();
+        for (Long memberId : requested) {
+            Member.MembershipStatus status = statuses.get(memberId);
+            String reason = null;
+            if (status == null) {
+                reason = "Member not found";
+            } else if (status != Member.MembershipStatus.ACTIVE) {
+                reason = "Member is not active";
+            } else if (alreadyRegistered.contains(memberId)) {
+                reason = "Member is already registered";
+            } else if (accepted.size() >= seatsLeft) {
+                reason = "Tournament has reached maximum participants";
+            }
+            if (reason == null) {
+                accepted.add(memberId);
+            } else {
+                rejected.add(new RegistrationResult.Rejection(memberId, reason));
+            }
+        }
 
-        if (!tournament.isMemberRegistered(member)) {
+        if (!accepted.isEmpty()) {
+            // Another registration took seats after the counter was read; the whole batch is retried
+            if (tournamentRepository.reserveSeats(tournamentId, accepted.size()) == 0) {
+                throw new OptimisticLockingFailureException("Tournament capacity changed during registration");
+            }
+            tournamentJdbcRepository.insertRegistrations(tournamentId, accepted);
+            revenueRepository.applyParticipantDelta(tournamentId, accepted.size());
+            refreshCalendar(tournamentId);
+        }
+        return new RegistrationResult(tournamentId, accepted, rejected);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#tournamentId"),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
+    public Tournament removeMemberFromTournament(Long tournamentId, Long memberId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new IllegalArgumentException("Tournament not found");
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("Member not found");
+        }
+
+        if (tournamentJdbcRepository.deleteRegistration(tournamentId, memberId) == 0) {
             throw new IllegalStateException("Member is not registered for this tournament");
         }
 
-        tournament.removeMember(member);
-        return tournamentRepository.save(tournament);
+        tournamentRepository.releaseSeat(tournamentId);
+        revenueRepository.applyParticipantDelta(tournamentId, -1);
+        refreshCalendar(tournamentId);
+        return tournamentRepository.findById(tournamentId).orElseThrow();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TournamentSummary> findByLocation(String location) {
+        String prefix = Tournament.toLocationKey(location);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        return tournamentRepository.findByLocationKeyStartingWithOrderByStartDateAsc(prefix);
     }
 
     @Transactional(readOnly = true)
-    public List<Tournament> findByLocation(String location) {
-        return tournamentRepository.findByLocationContainingIgnoreCase(location);
+    public List<MemberSummary> getTournamentMembers(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new IllegalArgumentException("Tournament not found");
+        }
+        return memberRepository.findMembersByTournamentId(tournamentId);
     }
 
     @Transactional(readOnly = true)
     public List<Tournament> findByDateRange(LocalDate startDate, LocalDate endDate) {
-        return tournamentRepository.findByStartDateBetween(startDate, endDate);
+        if (!calendar.isFresh() || endDate.isBefore(startDate)) {
+            return tournamentRepository.findByStartDateBetween(startDate, endDate);
+        }
+        return loadWithMembers(calendar.startingBetween(startDate, endDate));
+    }
+
+    // Tournaments running at any point in [from, to], answered from memory while the calendar is fresh.
+    // No transaction is started for that path, so it does not touch the connection pool.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TournamentSummary> getCalendar(LocalDate from, LocalDate to, String location, boolean openOnly) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End of range cannot be before its start");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        String locationKey = location == null || location.isBlank() ? null : Tournament.toLocationKey(location);
+        if (calendar.isFresh()) {
+            return calendar.overlapping(from, to, locationKey, openOnly);
+        }
+        return tournamentRepository.findCalendar(from, to, locationKey, openOnly);
     }
 
     @Transactional(readOnly = true)
@@ -125,18 +401,46 @@ public class TournamentService {
         return tournamentRepository.findByStatus(status);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#tournamentId"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, allEntries = true),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
     public void updateTournamentStatus(Long tournamentId, Tournament.TournamentStatus status) {
         tournamentRepository.findById(tournamentId)
                 .ifPresent(tournament -> {
                     validateStatusTransition(tournament, status);
                     tournament.setStatus(status);
+                    refreshRevenue(tournamentRepository.save(tournament));
+                    refreshCalendar(tournamentId);
                     if (status == Tournament.TournamentStatus.COMPLETED) {
-                        updateMemberStats(tournament);
+                        updateMemberStats(tournament, Map.of());
                     }
-                    tournamentRepository.save(tournament);
                 });
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#tournamentId"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBERS, allEntries = true),
+            @CacheEvict(cacheNames = {CacheConfig.UPCOMING_TOURNAMENTS, CacheConfig.AVAILABLE_TOURNAMENTS}, allEntries = true)
+    })
+    // False when the tournament does not exist. A concurrent change to the tournament surfaces as an
+    // OptimisticLockingFailureException when the transaction commits.
+    public boolean completeTournament(Long tournamentId, Map<Long, Double> prizes) {
+        Optional<Tournament> found = tournamentRepository.findById(tournamentId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        Tournament tournament = found.get();
+        validateStatusTransition(tournament, Tournament.TournamentStatus.COMPLETED);
+        validatePrizes(tournament, prizes);
+        tournament.setStatus(Tournament.TournamentStatus.COMPLETED);
+        refreshRevenue(tournamentRepository.save(tournament));
+        refreshCalendar(tournamentId);
+        updateMemberStats(tournament, prizes);
+        return true;
+    }
+
     private void validateStatusTransition(Tournament tournament, Tournament.TournamentStatus newStatus) {
         if (tournament.getStatus() == Tournament.TournamentStatus.COMPLETED) {
             throw new IllegalStateException("Cannot change status of completed tournament");
@@ -147,38 +451,103 @@ public class TournamentService {
         }
     }
 
-    private void updateMemberStats(Tournament tournament) {
-        for (Member member : tournament.getParticipatingMembers()) {
-            member.incrementTournamentsPlayed();
-            memberRepository.save(member);
+    private void validatePrizes(Tournament tournament, Map<Long, Double> prizes) {
+        if (prizes.isEmpty()) {
+            return;
+        }
+        if (prizes.values().stream().anyMatch(amount -> amount == null || amount <= 0)) {
+            throw new IllegalArgumentException("Prize amounts must be positive");
+        }
+        double total = prizes.values().stream().mapToDouble(Double::doubleValue).sum();
+        if (total > tournament.getCashPrizeAmount()) {
+            throw new IllegalArgumentException("Prizes exceed the tournament cash prize");
         }
+        if (tournamentRepository.findRegisteredMemberIds(tournament.getId(), prizes.keySet()).size() != prizes.size()) {
+            throw new IllegalArgumentException("Prize winner is not registered for this tournament");
+        }
+    }
+
+    // One UPDATE for every participant plus one batch for prize winners, instead of a save per member
+    private void updateMemberStats(Tournament tournament, Map<Long, Double> prizes) {
+        memberRepository.incrementTournamentsPlayed(tournament.getId());
+        tournamentJdbcRepository.creditWinnings(tournament.getId(), prizes);
+        leaderboard.recordCompletionAfterCommit(tournament.getStartDate().getYear(),
+                memberRepository.findParticipantVersions(tournament.getId()), prizes);
+    }
+
+    // Reads the row as this transaction leaves it; the calendar only sees it once committed
+    private void refreshCalendar(Long tournamentId) {
+        tournamentRepository.findCalendarRowById(tournamentId)
+                .ifPresentOrElse(calendar::putAfterCommit, () -> calendar.removeAfterCommit(tournamentId));
+    }
+
+    private void refreshRevenue(Tournament tournament) {
+        TournamentRevenue revenue = revenueRepository.findById(tournament.getId())
+                .orElseGet(() -> new TournamentRevenue(tournament));
+        revenue.refreshFrom(tournament);
+        revenueRepository.save(revenue);
     }
 
     @Transactional(readOnly = true)
     public Double calculateTotalRevenue() {
-        return tournamentRepository.calculateTotalRevenue();
+        Double total = revenueRepository.sumRevenueByStatus(Tournament.TournamentStatus.COMPLETED);
+        return total == null ? 0.0 : total;
     }
 
     @Transactional(readOnly = true)
     public Double calculateTournamentRevenue(Long tournamentId) {
-        return tournamentRepository.findById(tournamentId)
-                .map(Tournament::calculateTotalRevenue)
+        return revenueRepository.findById(tournamentId)
+                .map(TournamentRevenue::getRevenue)
                 .orElse(0.0);
     }
 
+    @Transactional(readOnly = true)
+    public List<TournamentRevenue> getRevenueByTournament(Tournament.TournamentStatus status) {
+        return revenueRepository.findByStatusOrderByRevenueDesc(status);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RevenueSummary> getRevenueByLocation(Tournament.TournamentStatus status) {
+        return revenueRepository.summarizeByLocation(status);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RevenueSummary> getRevenueByMonth(Tournament.TournamentStatus status) {
+        return revenueRepository.summarizeByMonth(status);
+    }
+
+    // The calendar picks the tournaments; their participants are then fetched by primary key
     @Transactional(readOnly = true)
     public List<Tournament> findCurrentTournaments() {
-        return tournamentRepository.findCurrentTournaments(LocalDate.now());
+        if (!calendar.isFresh()) {
+            return tournamentRepository.findCurrentTournaments(LocalDate.now());
+        }
+        return loadWithMembers(calendar.runningOn(LocalDate.now()));
     }
 
+    @Cacheable(CacheConfig.AVAILABLE_TOURNAMENTS)
     @Transactional(readOnly = true)
     public List<Tournament> findAvailableTournaments() {
-        return tournamentRepository.findAvailableTournaments();
+        if (!calendar.isFresh()) {
+            return tournamentRepository.findAvailableTournaments();
+        }
+        return loadWithMembers(calendar.open());
     }
 
+    @Cacheable(CacheConfig.UPCOMING_TOURNAMENTS)
     @Transactional(readOnly = true)
     public List<Tournament> findUpcomingTournaments() {
-        return tournamentRepository.findUpcomingTournaments(LocalDate.now());
+        if (!calendar.isFresh()) {
+            return tournamentRepository.findUpcomingTournaments(LocalDate.now());
+        }
+        return loadWithMembers(calendar.scheduledAfter(LocalDate.now()));
+    }
+
+    private List<Tournament> loadWithMembers(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return tournamentRepository.findAllWithMembersByIdIn(ids);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,145 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+// Adds what the application keeps beyond the original schema (membership end dates, normalized venue keys,
+// registration counters and the revenue table) and fills it in from the existing rows.
+// Databases that ran with ddl-auto=update may already have some of these columns, with Hibernate's types and
+// unfilled values, and indexes under the names V3 creates. So existing columns are redefined instead of added,
+// every value is recomputed, those indexes are dropped, and tournament_revenue (derived data only) is rebuilt.
+public class V2__Registration_and_membership_columns extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 500;
+    private static final List<String[]> INDEXES_CREATED_IN_V3 = List.of(
+            new String[]{"members", "idx_member_status_end_date"},
+            new String[]{"tournaments", "idx_tournament_location_key"},
+            new String[]{"tournaments", "idx_tournament_availability"});
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            boolean hadEndDate = addIfMissing(connection, statement, "members", "membership_end_date", "DATE");
+            boolean hadLocationKey = addIfMissing(connection, statement, "tournaments", "location_key", "VARCHAR(100)");
+            boolean hadParticipantCount = addIfMissing(connection, statement, "tournaments", "participant_count",
+                    "INT NOT NULL DEFAULT 0");
+            for (String[] index : INDEXES_CREATED_IN_V3) {
+                if (hasIndex(connection, index[0], index[1])) {
+                    statement.execute("DROP INDEX " + index[1] + " ON " + index[0]);
+                }
+            }
+
+            statement.execute("UPDATE members SET membership_end_date = TIMESTAMPADD(MONTH, duration, start_date)");
+            statement.execute("UPDATE tournaments t SET participant_count = " +
+                    "(SELECT COUNT(*) FROM tournament_members tm WHERE tm.tournament_id = t.id)");
+
+            // Only after the backfill: a column Hibernate added may hold NULLs until then
+            if (hadEndDate) {
+                statement.execute("ALTER TABLE members MODIFY COLUMN membership_end_date DATE");
+            }
+            if (hadLocationKey) {
+                statement.execute("ALTER TABLE tournaments MODIFY COLUMN location_key VARCHAR(100)");
+            }
+            if (hadParticipantCount) {
+                statement.execute("ALTER TABLE tournaments MODIFY COLUMN participant_count INT NOT NULL DEFAULT 0");
+            }
+
+            statement.execute("DROP TABLE IF EXISTS tournament_revenue");
+            statement.execute("""
+                    CREATE TABLE tournament_revenue (
+                        tournament_id BIGINT PRIMARY KEY,
+                        location VARCHAR(100) NOT NULL,
+                        revenue_month CHAR(7) NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        entry_fee DECIMAL(10,2) NOT NULL,
+                        participant_count INT NOT NULL DEFAULT 0,
+                        revenue DECIMAL(12,2) NOT NULL DEFAULT 0.00
+                    )""");
+            fillFromTournaments(connection, statement);
+        }
+    }
+
+    // Location keys and revenue rows, computed the way the entities do when they are saved
+    private static void fillFromTournaments(Connection connection, Statement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery(
+                "SELECT id, location, start_date, status, entry_fee, participant_count FROM tournaments");
+             PreparedStatement locationKey = connection.prepareStatement(
+                     "UPDATE tournaments SET location_key = ? WHERE id = ?");
+             PreparedStatement revenue = connection.prepareStatement(
+                     "INSERT INTO tournament_revenue (tournament_id, location, revenue_month, status, entry_fee, " +
+                             "participant_count, revenue) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            while (rows.next()) {
+                long id = rows.getLong("id");
+                String location = rows.getString("location");
+                String status = rows.getString("status");
+                BigDecimal entryFee = rows.getBigDecimal("entry_fee");
+                int participantCount = rows.getInt("participant_count");
+
+                locationKey.setString(1, location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+                locationKey.setLong(2, id);
+                locationKey.addBatch();
+
+                revenue.setLong(1, id);
+                revenue.setString(2, location);
+                revenue.setString(3, rows.getDate("start_date").toLocalDate().toString().substring(0, 7));
+                revenue.setString(4, status == null ? "SCHEDULED" : status);
+                revenue.setBigDecimal(5, entryFee);
+                revenue.setInt(6, participantCount);
+                revenue.setBigDecimal(7, entryFee.multiply(BigDecimal.valueOf(participantCount)));
+                revenue.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    locationKey.executeBatch();
+                    revenue.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                locationKey.executeBatch();
+                revenue.executeBatch();
+            }
+        }
+    }
+
+    // Returns whether the column was already there
+    private static boolean addIfMissing(Connection connection, Statement statement, String table, String column,
+                                        String definition) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                stored(metaData, table), stored(metaData, column))) {
+            if (columns.next()) {
+                return true;
+            }
+        }
+        statement.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        return false;
+    }
+
+    private static boolean hasIndex(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                stored(metaData, table), false, true)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String stored(DatabaseMetaData metaData, String identifier) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? identifier.toUpperCase(Locale.ROOT) : identifier;
+    }
+}
@@ -0,0 +1,42 @@
+-- Schema as created by the former mysql/init/01-init.sql, without its demo rows. Databases created from that
+-- script are baselined at this version (spring.flyway.baseline-on-migrate) and continue from V2.
+
+CREATE TABLE members (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_name VARCHAR(50) NOT NULL,
+    member_address VARCHAR(255) NOT NULL,
+    member_email VARCHAR(255) UNIQUE NOT NULL,
+    member_phone VARCHAR(15) UNIQUE NOT NULL,
+    start_date DATE NOT NULL,
+    duration INT NOT NULL,
+    status VARCHAR(20) DEFAULT 'ACTIVE',
+    total_tournaments_played INT DEFAULT 0,
+    total_winnings DECIMAL(10,2) DEFAULT 0.00,
+    version BIGINT DEFAULT 0
+);
+
+CREATE TABLE tournaments (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    location VARCHAR(100) NOT NULL,
+    entry_fee DECIMAL(10,2) NOT NULL,
+    cash_prize_amount DECIMAL(10,2) NOT NULL,
+    status VARCHAR(20) DEFAULT 'SCHEDULED',
+    minimum_participants INT NOT NULL DEFAULT 2,
+    maximum_participants INT NOT NULL DEFAULT 100,
+    version BIGINT DEFAULT 0
+);
+
+CREATE TABLE tournament_members (
+    tournament_id BIGINT,
+    member_id BIGINT,
+    PRIMARY KEY (tournament_id, member_id),
+    FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE CASCADE,
+    FOREIGN KEY (member_id) REFERENCES members(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_member_email ON members(member_email);
+CREATE INDEX idx_member_phone ON members(member_phone);
+CREATE INDEX idx_tournament_date ON tournaments(start_date);
+CREATE INDEX idx_tournament_location ON tournaments(location);
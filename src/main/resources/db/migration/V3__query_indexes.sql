@@ -0,0 +1,36 @@
+-- Indexes matched to the repository queries. QueryIndexUsageTest runs EXPLAIN on each of them against MySQL.
+-- Name and phone searches use LIKE '%...%' and are served by the in-memory MemberSearchIndex instead.
+
+-- Active members whose membership ends in a range (expiry sweep, expiring memberships)
+CREATE INDEX idx_member_status_end_date ON members(status, membership_end_date);
+-- Venue prefix searches on the normalized location
+CREATE INDEX idx_tournament_location_key ON tournaments(location_key);
+-- Scheduled tournaments with free seats
+CREATE INDEX idx_tournament_availability ON tournaments(status, participant_count, maximum_participants);
+-- Revenue report groupings
+CREATE INDEX idx_revenue_status_location ON tournament_revenue(status, location);
+CREATE INDEX idx_revenue_status_month ON tournament_revenue(status, revenue_month);
+
+-- Duplicates of the indexes behind the UNIQUE constraints on the same columns
+DROP INDEX idx_member_email ON members;
+DROP INDEX idx_member_phone ON members;
+-- Location searches go through location_key
+DROP INDEX idx_tournament_location ON tournaments;
+
+-- Top participants: ACTIVE members by tournaments played, read in index order under the LIMIT
+CREATE INDEX idx_member_status_played ON members(status, total_tournaments_played DESC, id);
+-- Members with more than N tournaments played
+CREATE INDEX idx_member_played ON members(total_tournaments_played);
+
+-- Upcoming scheduled tournaments by start date; also serves status-only lookups
+CREATE INDEX idx_tournament_status_start ON tournaments(status, start_date);
+-- Recently completed tournaments by end date
+CREATE INDEX idx_tournament_status_end ON tournaments(status, end_date);
+-- Tournaments running on a date or overlapping a range: past tournaments are excluded by end_date first
+CREATE INDEX idx_tournament_end_start ON tournaments(end_date, start_date);
+
+-- Tournaments of a member (season counts, member deletes); the primary key only leads with tournament_id
+CREATE INDEX idx_tournament_members_member ON tournament_members(member_id, tournament_id);
+
+-- Revenue by tournament, highest first, and revenue totals per status without reading the rows
+CREATE INDEX idx_revenue_status_revenue ON tournament_revenue(status, revenue);
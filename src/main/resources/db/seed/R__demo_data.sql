@@ -0,0 +1,56 @@
+-- Demo data for local environments, applied only when db/seed is among spring.flyway.locations (the seed profile).
+-- Repeatable: it runs again when this file changes, so every insert skips rows that are already there.
+
+INSERT IGNORE INTO members (member_name, member_address, member_email, member_phone, start_date, duration, status,
+                            membership_end_date, total_tournaments_played, total_winnings, version)
+VALUES
+('Brenda Armstrong', 'Witless Bay', 'hello@brendaarmstrong.ca', '709-682-6878', '2024-11-18', 12, 'ACTIVE', '2025-11-18', 0, 0, 0),
+('Stephan Bendiksen', 'St Johns', 'stephan@bendiksen.net', '709-699-2680', '2024-11-19', 60, 'ACTIVE', '2029-11-19', 0, 0, 0),
+('Louis Armstrong', 'Ottawa', 'smacko@gmail.com', '709-999-9999', '2024-11-19', 36, 'ACTIVE', '2027-11-19', 0, 0, 0),
+('Jamie Cornick', 'Mount Pearl', 'jamie@testgolf.com', '709-888-8888', '2024-11-19', 36, 'ACTIVE', '2027-11-19', 0, 0, 0),
+('Maurice Belbin', 'CBS', 'maurice@biggolf.com', '555-555-5555', '2024-11-19', 48, 'ACTIVE', '2028-11-19', 0, 0, 0);
+
+-- Tournaments have no natural key, so they are only seeded into an empty table
+INSERT INTO tournaments (start_date, end_date, location, location_key, entry_fee, cash_prize_amount,
+                         minimum_participants, maximum_participants, status, participant_count, version)
+SELECT seed.start_date, seed.end_date, seed.location, LOWER(seed.location), seed.entry_fee, seed.cash_prize_amount,
+       seed.minimum_participants, seed.maximum_participants, 'SCHEDULED', 0, 0
+FROM (
+    SELECT DATE '2024-06-15' AS start_date, DATE '2024-06-18' AS end_date, 'Clovelly Golf Club' AS location,
+           150.00 AS entry_fee, 2000.00 AS cash_prize_amount, 2 AS minimum_participants, 50 AS maximum_participants
+    UNION ALL SELECT DATE '2024-07-01', DATE '2024-07-03', 'Bally Haly Country Club', 200.00, 3000.00, 4, 40
+    UNION ALL SELECT DATE '2024-08-15', DATE '2024-08-17', 'Glendenning Golf', 175.00, 2500.00, 3, 45
+    UNION ALL SELECT DATE '2024-09-01', DATE '2024-09-03', 'Admiral''s Green', 225.00, 3500.00, 5, 60
+    UNION ALL SELECT DATE '2024-10-01', DATE '2024-10-03', 'The Wilds', 180.00, 2800.00, 3, 55
+) seed
+WHERE NOT EXISTS (SELECT 1 FROM tournaments);
+
+INSERT IGNORE INTO tournament_members (tournament_id, member_id)
+SELECT t.id, m.id
+FROM (
+    SELECT 'Clovelly Golf Club' AS location, 'hello@brendaarmstrong.ca' AS email
+    UNION ALL SELECT 'Clovelly Golf Club', 'stephan@bendiksen.net'
+    UNION ALL SELECT 'Bally Haly Country Club', 'smacko@gmail.com'
+    UNION ALL SELECT 'Bally Haly Country Club', 'jamie@testgolf.com'
+    UNION ALL SELECT 'Glendenning Golf', 'maurice@biggolf.com'
+    UNION ALL SELECT 'Glendenning Golf', 'hello@brendaarmstrong.ca'
+    UNION ALL SELECT 'Admiral''s Green', 'stephan@bendiksen.net'
+    UNION ALL SELECT 'Admiral''s Green', 'smacko@gmail.com'
+    UNION ALL SELECT 'The Wilds', 'jamie@testgolf.com'
+    UNION ALL SELECT 'The Wilds', 'maurice@biggolf.com'
+) seed
+JOIN tournaments t ON t.location = seed.location AND t.start_date < DATE '2025-01-01'
+JOIN members m ON m.member_email = seed.email;
+
+-- Derived columns for the rows above
+UPDATE tournaments t
+SET participant_count = (SELECT COUNT(*) FROM tournament_members tm WHERE tm.tournament_id = t.id),
+    version = version + 1
+WHERE t.start_date < DATE '2025-01-01'
+  AND participant_count <> (SELECT COUNT(*) FROM tournament_members tm WHERE tm.tournament_id = t.id);
+
+INSERT IGNORE INTO tournament_revenue (tournament_id, location, revenue_month, status, entry_fee, participant_count,
+                                       revenue)
+SELECT id, location, DATE_FORMAT(start_date, '%Y-%m'), status, entry_fee, participant_count,
+       entry_fee * participant_count
+FROM tournaments;
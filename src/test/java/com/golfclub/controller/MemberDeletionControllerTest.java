@@ -0,0 +1,68 @@
+package com.golfclub.controller;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import com.golfclub.service.MemberService;
+import com.golfclub.service.TournamentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-deletion;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureMockMvc
+class MemberDeletionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Test
+    void deletedMemberReleasesSeats() throws Exception {
+        LocalDate date = LocalDate.now().plusYears(2);
+        Tournament tournament = new Tournament(date, date, "Bally Haly", 100.0, 1000.0);
+        tournament.setMinimumParticipants(2);
+        tournament.setMaximumParticipants(10);
+        Long tournamentId = tournamentService.saveTournament(tournament).getId();
+        Long memberId = memberService.saveMember(new Member("Leaving Player", "Town", "leaving@example.com",
+                "709-556-0000", LocalDate.now(), 12)).getId();
+        tournamentService.registerMembers(tournamentId, List.of(memberId));
+        String etag = mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        memberService.deleteMember(memberId);
+
+        mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participantCount").value(0))
+                .andExpect(jsonPath("$.participatingMembers.length()").value(0));
+        mockMvc.perform(get("/api/v1/tournaments/calendar")
+                        .param("from", date.toString()).param("to", date.toString()))
+                .andExpect(jsonPath("$[0].id").value(tournamentId))
+                .andExpect(jsonPath("$[0].participantCount").value(0));
+        mockMvc.perform(get("/api/v1/tournaments/revenue/by-location").param("status", "SCHEDULED"))
+                .andExpect(jsonPath("$[?(@.group == 'Bally Haly')].participants").value(0))
+                .andExpect(jsonPath("$[?(@.group == 'Bally Haly')].revenue").value(0.0));
+    }
+}
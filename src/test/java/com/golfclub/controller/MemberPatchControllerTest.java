@@ -0,0 +1,91 @@
+package com.golfclub.controller;
+
+import com.golfclub.model.Member;
+import com.golfclub.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static com.golfclub.support.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-patch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureMockMvc
+class MemberPatchControllerTest {
+    private static final String ADDRESS_CHANGE = "{\"memberAddress\":\"Water Street\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Test
+    void memberPatchIsOneConditionalUpdate() throws Throwable {
+        Long memberId = saveMember("Ada Walsh", "ada@example.com", "709-558-0001");
+        String etag = mockMvc.perform(get("/api/v1/members/{id}", memberId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertMaxStatements(1, () -> mockMvc.perform(patch("/api/v1/members/{id}", memberId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"memberAddress\":\"Harbour Road\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().exists(HttpHeaders.ETAG)));
+
+        mockMvc.perform(patch("/api/v1/members/{id}", memberId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON).content(ADDRESS_CHANGE))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/v1/members/{id}", memberId)
+                        .contentType(MediaType.APPLICATION_JSON).content(ADDRESS_CHANGE))
+                .andExpect(status().isPreconditionRequired());
+        mockMvc.perform(get("/api/v1/members/{id}", memberId))
+                .andExpect(jsonPath("$.memberAddress").value("Harbour Road"));
+    }
+
+    @Test
+    void memberPatchComparesTagsStrongly() throws Exception {
+        Long memberId = saveMember("Brendan Power", "brendan@example.com", "709-558-0002");
+        String etag = mockMvc.perform(get("/api/v1/members/{id}", memberId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertFalse(etag.startsWith("W/"));
+
+        mockMvc.perform(patch("/api/v1/members/{id}", memberId)
+                        .header(HttpHeaders.IF_MATCH, "W/" + etag)
+                        .contentType(MediaType.APPLICATION_JSON).content(ADDRESS_CHANGE))
+                .andExpect(status().isPreconditionFailed());
+        String patched = mockMvc.perform(patch("/api/v1/members/{id}", memberId)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON).content(ADDRESS_CHANGE))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/members/{id}", memberId).header(HttpHeaders.IF_NONE_MATCH, patched))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(patch("/api/v1/members/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON).content(ADDRESS_CHANGE))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private Long saveMember(String name, String email, String phone) {
+        return memberService.saveMember(new Member(name, "Town", email, phone, LocalDate.now().minusMonths(1), 12))
+                .getId();
+    }
+}
@@ -0,0 +1,94 @@
+package com.golfclub.controller;
+
+import com.golfclub.metrics.SqlStatementHeaderAdvice;
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import com.golfclub.service.MemberService;
+import com.golfclub.service.TournamentService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.golfclub.support.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetControllerTest {
+    private static final int MEMBERS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    private Long tournamentId;
+
+    @BeforeAll
+    void seed() {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = new Member("Player " + (char) ('a' + i % 26) + " Smith", "Town " + i,
+                    "player" + i + "@example.com", String.format("709-555-%04d", i), LocalDate.now().minusMonths(1), 12);
+            memberIds.add(memberService.saveMember(member).getId());
+        }
+        Tournament tournament = new Tournament(LocalDate.now().plusMonths(1), LocalDate.now().plusMonths(1).plusDays(2),
+                "Clovelly Golf Club", 100.0, 1000.0);
+        tournament.setMinimumParticipants(2);
+        tournament.setMaximumParticipants(100);
+        tournamentId = tournamentService.saveTournament(tournament).getId();
+        tournamentService.registerMembers(tournamentId, memberIds);
+    }
+
+    @Test
+    void tournamentWithMembersLoadsInOneQuery() throws Throwable {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participatingMembers.length()").value(MEMBERS)));
+    }
+
+    @Test
+    void tournamentMembersAreProjected() throws Throwable {
+        assertMaxStatements(2, () -> mockMvc.perform(get("/api/v1/tournaments/{id}/members", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MEMBERS)));
+    }
+
+    @Test
+    void memberPageIsOneQuery() throws Throwable {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/v1/members").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(10)));
+    }
+
+    @Test
+    void statementCountIsExposedAsHeader() throws Exception {
+        mockMvc.perform(get("/api/v1/tournaments/search/location/{location}", "clovelly"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementHeaderAdvice.STATEMENTS_HEADER, "1"))
+                .andExpect(header().string(SqlStatementHeaderAdvice.BUDGET_HEADER, "20"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.golfclub.controller;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import com.golfclub.service.MemberService;
+import com.golfclub.service.TournamentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.golfclub.support.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tournament-etag;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureMockMvc
+class TournamentETagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Test
+    void unchangedTournamentIsRevalidatedWithOneQuery() throws Throwable {
+        Long memberId = saveMember("Ada Walsh", "ada@example.com", "709-557-0001");
+        Long tournamentId = saveTournament("Clovelly Golf Club", List.of(memberId));
+        String etag = mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string("")));
+    }
+
+    @Test
+    void participantChangeInvalidatesTournamentTag() throws Exception {
+        Long memberId = saveMember("Brendan Power", "brendan@example.com", "709-557-0002");
+        Long tournamentId = saveTournament("Bally Haly", List.of(memberId));
+        String etag = mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String listEtag = mockMvc.perform(get("/api/v1/tournaments"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        memberService.updateMembershipDuration(memberId, 1);
+
+        mockMvc.perform(get("/api/v1/tournaments/{id}", tournamentId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tournaments").header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                .andExpect(status().isOk());
+    }
+
+    private Long saveMember(String name, String email, String phone) {
+        return memberService.saveMember(new Member(name, "Town", email, phone, LocalDate.now().minusMonths(1), 12))
+                .getId();
+    }
+
+    private Long saveTournament(String location, List<Long> memberIds) {
+        Tournament tournament = new Tournament(LocalDate.now().plusMonths(1), LocalDate.now().plusMonths(1).plusDays(2),
+                location, 100.0, 1000.0);
+        tournament.setMinimumParticipants(2);
+        tournament.setMaximumParticipants(100);
+        Long tournamentId = tournamentService.saveTournament(tournament).getId();
+        tournamentService.registerMembers(tournamentId, memberIds);
+        return tournamentId;
+    }
+}
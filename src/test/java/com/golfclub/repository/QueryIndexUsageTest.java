@@ -0,0 +1,219 @@
+package com.golfclub.repository;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs EXPLAIN on the SQL that repository queries actually send to MySQL, against the migrated schema, and
+// fails if any table in a plan is read with a full scan. The SQL is taken from the server's general log, where
+// client-side prepared statements appear with their values inlined.
+// Statuses and dates are spread so every filter is selective; on heavily skewed data a scan can be the right
+// plan. Queries that read whole tables by design (full listings, version stamps over every row, infix name
+// and phone searches served by MemberSearchIndex) are not checked.
+// Needs Docker; skipped without it.
+@SpringBootTest(properties = {
+        "golfclub.membership-expiry.enabled=false",
+        "golfclub.calendar.reload-ms=3600000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexUsageTest {
+    private static final int MEMBERS = 5000;
+    private static final int TOURNAMENTS = 2000;
+    private static final int PLAYERS_PER_TOURNAMENT = 10;
+    private static final int VENUES = 40;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("golfclub")
+            .withUsername("root")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepo memberRepository;
+
+    @Autowired
+    private TournamentRepo tournamentRepository;
+
+    @Autowired
+    private TournamentRevenueRepo revenueRepository;
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        LocalDate today = LocalDate.now();
+        seed(today);
+        List<Long> memberIds = jdbcTemplate.queryForList("SELECT id FROM members ORDER BY id LIMIT 5", Long.class);
+        List<Long> tournamentIds = jdbcTemplate.queryForList("SELECT id FROM tournaments ORDER BY id LIMIT 5", Long.class);
+        Long tournamentId = tournamentIds.get(0);
+        LocalDate tournamentDate = jdbcTemplate.queryForObject(
+                "SELECT start_date FROM tournaments WHERE id = ?", LocalDate.class, tournamentId);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("MemberRepo.findByMemberEmail", () -> memberRepository.findByMemberEmail("member17@example.com"));
+        queries.put("MemberRepo.existsByMemberPhoneAndIdNot",
+                () -> memberRepository.existsByMemberPhoneAndIdNot(phone(17), memberIds.get(0)));
+        queries.put("MemberRepo.findExistingEmails",
+                () -> memberRepository.findExistingEmails(List.of("member1@example.com", "member2@example.com")));
+        queries.put("MemberRepo.findByIdIn", () -> memberRepository.findByIdIn(memberIds));
+        queries.put("MemberRepo.findStatusByIdIn", () -> memberRepository.findStatusByIdIn(memberIds));
+        queries.put("MemberRepo.findByStatus", () -> memberRepository.findByStatus(Member.MembershipStatus.ACTIVE));
+        queries.put("MemberRepo.findByTotalTournamentsPlayedGreaterThan",
+                () -> memberRepository.findByTotalTournamentsPlayedGreaterThan(95));
+        queries.put("MemberRepo.findMembersByTournamentId", () -> memberRepository.findMembersByTournamentId(tournamentId));
+        queries.put("MemberRepo.findByTournamentStartDate", () -> memberRepository.findByTournamentStartDate(tournamentDate));
+        queries.put("MemberRepo.findActiveMembers", () -> memberRepository.findActiveMembers(today));
+        queries.put("MemberRepo.findActiveExpiringBetween",
+                () -> memberRepository.findActiveExpiringBetween(today, today.plusDays(30)));
+        queries.put("MemberRepo.findTopParticipants", () -> memberRepository.findTopParticipants(PageRequest.of(0, 20)));
+        queries.put("MemberRepo.findSeasonPlayed", () -> memberRepository.findSeasonPlayed(memberIds));
+        queries.put("MemberRepo.findParticipantVersions", () -> memberRepository.findParticipantVersions(tournamentId));
+        queries.put("MemberRepo.findVersionStampById", () -> memberRepository.findVersionStampById(memberIds.get(0)));
+
+        queries.put("TournamentRepo.findByStatus", () -> tournamentRepository.findByStatus(Tournament.TournamentStatus.SCHEDULED));
+        queries.put("TournamentRepo.findByLocationKeyStartingWithOrderByStartDateAsc",
+                () -> tournamentRepository.findByLocationKeyStartingWithOrderByStartDateAsc("venue 7"));
+        queries.put("TournamentRepo.findByStartDateBetween",
+                () -> tournamentRepository.findByStartDateBetween(today.minusDays(30), today));
+        queries.put("TournamentRepo.findCurrentTournaments", () -> tournamentRepository.findCurrentTournaments(today));
+        queries.put("TournamentRepo.findAvailableTournaments", () -> tournamentRepository.findAvailableTournaments());
+        queries.put("TournamentRepo.findUpcomingTournaments", () -> tournamentRepository.findUpcomingTournaments(today));
+        queries.put("TournamentRepo.findRecentlyCompletedTournaments",
+                () -> tournamentRepository.findRecentlyCompletedTournaments());
+        queries.put("TournamentRepo.findFirstPage", () -> tournamentRepository.findFirstPage(PageRequest.of(0, 21)));
+        queries.put("TournamentRepo.findWithMembersById", () -> tournamentRepository.findWithMembersById(tournamentId));
+        queries.put("TournamentRepo.findAllWithMembersByIdIn",
+                () -> tournamentRepository.findAllWithMembersByIdIn(tournamentIds));
+        queries.put("TournamentRepo.findCalendar",
+                () -> tournamentRepository.findCalendar(today, today.plusDays(6), "venue 7", true));
+        queries.put("TournamentRepo.findCalendarRowById", () -> tournamentRepository.findCalendarRowById(tournamentId));
+        queries.put("TournamentRepo.findVersionStampById", () -> tournamentRepository.findVersionStampById(tournamentId));
+        queries.put("TournamentRepo.findRegisteredMemberIds",
+                () -> tournamentRepository.findRegisteredMemberIds(tournamentId, memberIds));
+
+        queries.put("TournamentRevenueRepo.findByStatusOrderByRevenueDesc",
+                () -> revenueRepository.findByStatusOrderByRevenueDesc(Tournament.TournamentStatus.COMPLETED));
+        queries.put("TournamentRevenueRepo.sumRevenueByStatus",
+                () -> revenueRepository.sumRevenueByStatus(Tournament.TournamentStatus.COMPLETED));
+        queries.put("TournamentRevenueRepo.summarizeByLocation",
+                () -> revenueRepository.summarizeByLocation(Tournament.TournamentStatus.COMPLETED));
+        queries.put("TournamentRevenueRepo.summarizeByMonth",
+                () -> revenueRepository.summarizeByMonth(Tournament.TournamentStatus.COMPLETED));
+
+        List<String> fullScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            List<String> statements = capture(query);
+            assertFalse(statements.isEmpty(), name + " sent no SELECT");
+            for (String sql : statements) {
+                for (Map<String, Object> step : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+                    Object table = step.get("table");
+                    // <derivedN>/<subqueryN> rows are temporary results, not tables
+                    if ("ALL".equals(step.get("type")) && table != null && !table.toString().startsWith("<")) {
+                        fullScans.add(name + " scans " + table + ": " + sql);
+                    }
+                }
+            }
+        });
+        assertTrue(fullScans.isEmpty(), "Queries without a usable index:\n" + String.join("\n", fullScans));
+    }
+
+    private List<String> capture(Runnable query) {
+        jdbcTemplate.execute("TRUNCATE TABLE mysql.general_log");
+        query.run();
+        // Hibernate writes lower-case SQL; this lookup and the TRUNCATE above are upper-case
+        return jdbcTemplate.queryForList("SELECT CONVERT(argument USING utf8mb4) FROM mysql.general_log " +
+                        "WHERE command_type = 'Query' ORDER BY event_time", String.class).stream()
+                .filter(sql -> sql.startsWith("select"))
+                .toList();
+    }
+
+    private void seed(LocalDate today) {
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            LocalDate start = today.minusDays(i % 2000);
+            members.add(new Object[]{"Member " + (char) ('a' + i % 26), "Town " + i % 100, "member" + i + "@example.com",
+                    phone(i), Date.valueOf(start), 12, Date.valueOf(start.plusMonths(12)), memberStatus(i), i % 100});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO members (member_name, member_address, member_email, member_phone, " +
+                "start_date, duration, membership_end_date, status, total_tournaments_played, total_winnings, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)", members);
+
+        // Roughly eight years of history and a year ahead
+        List<Object[]> tournaments = new ArrayList<>();
+        for (int i = 0; i < TOURNAMENTS; i++) {
+            LocalDate start = today.minusDays(2900).plusDays(i * 3L / 2);
+            String location = "Venue " + i % VENUES;
+            tournaments.add(new Object[]{Date.valueOf(start), Date.valueOf(start.plusDays(2)), location,
+                    location.toLowerCase(), tournamentStatus(i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tournaments (start_date, end_date, location, location_key, entry_fee, " +
+                "cash_prize_amount, status, minimum_participants, maximum_participants, participant_count, version) " +
+                "VALUES (?, ?, ?, ?, 100, 1000, ?, 2, 100, " + PLAYERS_PER_TOURNAMENT + ", 0)", tournaments);
+
+        List<Long> memberIds = jdbcTemplate.queryForList("SELECT id FROM members ORDER BY id", Long.class);
+        List<Long> tournamentIds = jdbcTemplate.queryForList("SELECT id FROM tournaments ORDER BY id", Long.class);
+        List<Object[]> registrations = new ArrayList<>();
+        for (int i = 0; i < tournamentIds.size(); i++) {
+            for (int j = 0; j < PLAYERS_PER_TOURNAMENT; j++) {
+                registrations.add(new Object[]{tournamentIds.get(i), memberIds.get((i * 7 + j * 499) % memberIds.size())});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO tournament_members (tournament_id, member_id) VALUES (?, ?)",
+                registrations);
+        jdbcTemplate.update("INSERT INTO tournament_revenue (tournament_id, location, revenue_month, status, entry_fee, " +
+                "participant_count, revenue) SELECT id, location, DATE_FORMAT(start_date, '%Y-%m'), status, entry_fee, " +
+                "participant_count, entry_fee * participant_count + id FROM tournaments");
+
+        jdbcTemplate.execute("ANALYZE TABLE members, tournaments, tournament_members, tournament_revenue");
+        jdbcTemplate.execute("SET GLOBAL log_output = 'TABLE'");
+        jdbcTemplate.execute("SET GLOBAL general_log = 'ON'");
+    }
+
+    private static String phone(int i) {
+        return String.format("709-%03d-%04d", i / 10000, i % 10000);
+    }
+
+    // One in twenty members is active, one in twenty tournaments scheduled and one in twenty completed
+    private static String memberStatus(int i) {
+        return switch (i % 20) {
+            case 0 -> Member.MembershipStatus.ACTIVE.name();
+            case 1, 2 -> Member.MembershipStatus.SUSPENDED.name();
+            default -> Member.MembershipStatus.EXPIRED.name();
+        };
+    }
+
+    private static String tournamentStatus(int i) {
+        return switch (i % 20) {
+            case 0 -> Tournament.TournamentStatus.SCHEDULED.name();
+            case 1 -> Tournament.TournamentStatus.COMPLETED.name();
+            default -> Tournament.TournamentStatus.CANCELLED.name();
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.golfclub.service;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import com.golfclub.repository.MemberJdbcRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 500 members sign up for a 100-seat tournament at once, through the executor, the service and the database
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:registration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "golfclub.membership-expiry.enabled=false",
+        // Every sign-up queues on the same stripe; none should give up waiting for it
+        "golfclub.registration.lock-timeout-ms=120000"
+})
+class ConcurrentRegistrationTest {
+    private static final int SIGN_UPS = 500;
+    private static final int CAPACITY = 100;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private RegistrationExecutor registrationExecutor;
+
+    @Autowired
+    private MemberJdbcRepo memberJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentSignUpsFillTheTournamentExactly() throws Exception {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < SIGN_UPS; i++) {
+            members.add(new Member("Signup Player", "Town " + i, "signup" + i + "@example.com",
+                    String.format("709-600-%04d", i), LocalDate.now().minusMonths(1), 12));
+        }
+        List<Long> memberIds = memberJdbcRepository.insertMembers(members);
+        Tournament tournament = new Tournament(LocalDate.now().plusMonths(2), LocalDate.now().plusMonths(2).plusDays(1),
+                "Glendenning Golf", 100.0, 1000.0);
+        tournament.setMinimumParticipants(2);
+        tournament.setMaximumParticipants(CAPACITY);
+        Long tournamentId = tournamentService.saveTournament(tournament).getId();
+
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        Queue<Exception> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService pool = Executors.newFixedThreadPool(SIGN_UPS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(SIGN_UPS);
+        for (Long memberId : memberIds) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    registrationExecutor.execute(tournamentId,
+                            () -> tournamentService.addMemberToTournament(tournamentId, memberId));
+                    registered.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    full.incrementAndGet();
+                } catch (Exception e) {
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(120, TimeUnit.SECONDS), "sign-ups did not finish");
+        pool.shutdown();
+
+        assertTrue(unexpected.isEmpty(), "unexpected failures: " + unexpected);
+        assertEquals(CAPACITY, registered.get());
+        assertEquals(SIGN_UPS - CAPACITY, full.get());
+        assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                "SELECT participant_count FROM tournaments WHERE id = ?", Integer.class, tournamentId));
+        assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tournament_members WHERE tournament_id = ?", Integer.class, tournamentId));
+        assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                "SELECT participant_count FROM tournament_revenue WHERE tournament_id = ?", Integer.class, tournamentId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.golfclub.service;
+
+import com.golfclub.repository.MemberRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberSearchIndexTest {
+
+    @Test
+    void rebuildPicksUpWritesMadeElsewhere() {
+        MemberRepo repository = mock(MemberRepo.class);
+        when(repository.findSearchKeysAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(key(1, "Ada Walsh", "709-555-0001"), key(2, "Brendan Walsh", "709-555-0002")));
+        MemberSearchIndex index = new MemberSearchIndex(repository, 60_000);
+        assertFalse(index.isFresh());
+        index.rebuild();
+        assertTrue(index.isFresh());
+        assertEquals(List.of(1L, 2L), index.searchByName("walsh", 10));
+
+        // Another instance renamed 1 and deleted 2, and added 3
+        when(repository.findSearchKeysAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(key(1, "Ada Power", "709-555-0001"), key(3, "Cathal Walsh", "709-555-0003")));
+        index.rebuild();
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(3L), index.searchByName("walsh", 10));
+        assertEquals(List.of(1L), index.searchByName("power", 10));
+        assertEquals(List.of(), index.searchByPhone("0002", 10));
+    }
+
+    @Test
+    void writesDuringRebuildWinOverTheSnapshot() {
+        MemberRepo repository = mock(MemberRepo.class);
+        MemberSearchIndex index = new MemberSearchIndex(repository, 60_000);
+        when(repository.findSearchKeysAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            // Committed while the chunk was being read: a rename of 1 and the deletion of 2
+            index.put(1L, "Ada Power", "709-555-0001");
+            index.remove(2L);
+            return List.of(key(1, "Ada Walsh", "709-555-0001"), key(2, "Brendan Walsh", "709-555-0002"));
+        });
+        index.rebuild();
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(), index.searchByName("walsh", 10));
+        assertEquals(List.of(1L), index.searchByName("power", 10));
+    }
+
+    @Test
+    void failedRebuildLeavesTheIndexToGoStale() {
+        MemberRepo repository = mock(MemberRepo.class);
+        when(repository.findSearchKeysAfter(anyLong(), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        MemberSearchIndex index = new MemberSearchIndex(repository, 60_000);
+        index.rebuild();
+
+        assertFalse(index.isFresh());
+    }
+
+    private static MemberRepo.SearchKey key(long id, String name, String phone) {
+        return new MemberRepo.SearchKey() {
+            public Long getId() {
+                return id;
+            }
+
+            public String getMemberName() {
+                return name;
+            }
+
+            public String getMemberPhone() {
+                return phone;
+            }
+        };
+    }
+}
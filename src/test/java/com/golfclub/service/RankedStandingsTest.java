@@ -0,0 +1,88 @@
+package com.golfclub.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RankedStandingsTest {
+
+    @Test
+    void tiesShareARankAndSkipTheNext() {
+        RankedStandings standings = new RankedStandings();
+        standings.put(1, 5);
+        standings.put(2, 9);
+        standings.put(3, 5);
+        standings.put(4, 2);
+
+        assertEquals(1, standings.rankOf(2));
+        assertEquals(2, standings.rankOf(1));
+        assertEquals(2, standings.rankOf(3));
+        assertEquals(4, standings.rankOf(4));
+        assertEquals(0, standings.rankOf(99));
+
+        List<RankedStandings.Standing> page = standings.page(1, 3);
+        assertEquals(List.of(1L, 3L, 4L), page.stream().map(RankedStandings.Standing::getMemberId).toList());
+        assertEquals(List.of(2, 2, 4), page.stream().map(RankedStandings.Standing::getRank).toList());
+    }
+
+    @Test
+    void zeroScoreRemovesTheMember() {
+        RankedStandings standings = new RankedStandings();
+        standings.add(7, 3);
+        standings.add(7, -3);
+        assertEquals(0, standings.size());
+        assertEquals(0, standings.rankOf(7));
+        assertEquals(List.of(), standings.page(0, 10));
+    }
+
+    // Random updates checked against a full sort after every step
+    @Test
+    void matchesASortedReference() {
+        Random random = new Random(42);
+        RankedStandings standings = new RankedStandings();
+        Map<Long, Long> reference = new HashMap<>();
+        for (int step = 0; step < 5000; step++) {
+            long memberId = random.nextInt(300);
+            long score = random.nextInt(10) == 0 ? 0 : random.nextInt(40);
+            standings.put(memberId, score);
+            if (score > 0) {
+                reference.put(memberId, score);
+            } else {
+                reference.remove(memberId);
+            }
+            if (step % 50 == 0) {
+                assertMatches(reference, standings, random);
+            }
+        }
+        assertMatches(reference, standings, random);
+    }
+
+    private static void assertMatches(Map<Long, Long> reference, RankedStandings standings, Random random) {
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(reference.entrySet());
+        sorted.sort(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        assertEquals(sorted.size(), standings.size());
+
+        int offset = sorted.isEmpty() ? 0 : random.nextInt(sorted.size());
+        List<RankedStandings.Standing> page = standings.page(offset, 25);
+        assertEquals(Math.min(25, sorted.size() - offset), page.size());
+        for (int i = 0; i < page.size(); i++) {
+            Map.Entry<Long, Long> expected = sorted.get(offset + i);
+            RankedStandings.Standing actual = page.get(i);
+            assertEquals(expected.getKey(), actual.getMemberId());
+            assertEquals(expected.getValue(), actual.getScore());
+            assertEquals(expectedRank(sorted, expected.getValue()), actual.getRank());
+            assertEquals(actual.getRank(), standings.rankOf(actual.getMemberId()));
+        }
+    }
+
+    private static int expectedRank(List<Map.Entry<Long, Long>> sorted, long score) {
+        return (int) sorted.stream().filter(entry -> entry.getValue() > score).count() + 1;
+    }
+}
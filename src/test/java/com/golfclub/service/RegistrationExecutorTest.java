@@ -0,0 +1,107 @@
+package com.golfclub.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegistrationExecutorTest {
+    private static final int SIGN_UPS = 500;
+    private static final int CAPACITY = 100;
+
+    @Test
+    void concurrentSignUpsNeverOverSubscribe() throws Exception {
+        RegistrationExecutor executor = new RegistrationExecutor(64, 10, 1, 5000);
+        FakeTournament tournament = new FakeTournament();
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        // Simulates writers on other instances bumping the version underneath the executor
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread outsideWriter = new Thread(() -> {
+            while (running.get()) {
+                tournament.bumpVersion();
+                sleepQuietly(2);
+            }
+        });
+        outsideWriter.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(SIGN_UPS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(SIGN_UPS);
+        long began = System.nanoTime();
+        for (int i = 0; i < SIGN_UPS; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    executor.execute(1L, tournament::register);
+                    registered.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    full.incrementAndGet();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS), "sign-ups did not finish");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began);
+        running.set(false);
+        outsideWriter.join();
+        pool.shutdown();
+
+        assertEquals(CAPACITY, tournament.participants);
+        assertEquals(CAPACITY, registered.get());
+        assertEquals(SIGN_UPS - CAPACITY, full.get());
+        assertEquals(0, failed.get());
+        assertTrue(elapsedMs < 30_000, "throughput collapsed: " + elapsedMs + " ms");
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Mimics a versioned row: reads outside the commit, then fails the commit if the version moved
+    private static class FakeTournament {
+        private long version;
+        private int participants;
+
+        synchronized void bumpVersion() {
+            version++;
+        }
+
+        Object register() {
+            long seenVersion;
+            int seenParticipants;
+            synchronized (this) {
+                seenVersion = version;
+                seenParticipants = participants;
+            }
+            if (seenParticipants >= CAPACITY) {
+                throw new IllegalStateException("Tournament has reached maximum participants");
+            }
+            synchronized (this) {
+                if (version != seenVersion) {
+                    throw new ObjectOptimisticLockingFailureException("Tournament", 1L);
+                }
+                participants++;
+                version++;
+            }
+            return this;
+        }
+    }
+}
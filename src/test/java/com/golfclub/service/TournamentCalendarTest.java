@@ -0,0 +1,150 @@
+package com.golfclub.service;
+
+import com.golfclub.dto.TournamentSummary;
+import com.golfclub.model.Tournament;
+import com.golfclub.repository.TournamentRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TournamentCalendarTest {
+    private static final LocalDate MONDAY = LocalDate.of(2027, 5, 3);
+
+    @Test
+    void overlapFindsTournamentsThatStartedBeforeTheRange() {
+        TournamentCalendar calendar = loaded(List.of());
+        calendar.put(row(1, MONDAY.minusDays(10), MONDAY.plusDays(1), "Clovelly Golf Club", 1));
+        calendar.put(row(2, MONDAY.plusDays(2), MONDAY.plusDays(3), "Bally Haly", 1));
+        calendar.put(row(3, MONDAY.minusDays(3), MONDAY.minusDays(1), "Clovelly Golf Club", 1));
+        calendar.put(row(4, MONDAY.plusDays(8), MONDAY.plusDays(9), "Clovelly Golf Club", 1));
+
+        assertEquals(List.of(1L, 2L), ids(calendar.overlapping(MONDAY, MONDAY.plusDays(6), null, false)));
+        assertEquals(List.of(1L), ids(calendar.overlapping(MONDAY, MONDAY.plusDays(6), " CLOVELLY ", false)));
+        assertEquals(List.of(1L, 3L), calendar.runningOn(MONDAY.minusDays(1)));
+        assertEquals(List.of(2L, 4L), calendar.startingBetween(MONDAY.plusDays(1), MONDAY.plusDays(8)));
+    }
+
+    @Test
+    void olderRowsNeverReplaceNewerOnes() {
+        TournamentCalendar calendar = loaded(List.of());
+        calendar.put(full(row(1, MONDAY, MONDAY.plusDays(1), "Clovelly", 5)));
+        calendar.put(row(1, MONDAY, MONDAY.plusDays(1), "Clovelly", 4));
+
+        assertEquals(List.of(), calendar.open());
+        assertEquals(List.of(), ids(calendar.overlapping(MONDAY, MONDAY, null, true)));
+        assertEquals(List.of(1L), calendar.scheduledAfter(MONDAY.minusDays(1)));
+
+        calendar.remove(1L);
+        assertEquals(0, calendar.size());
+    }
+
+    @Test
+    void writesDuringReloadWinOverTheSnapshot() {
+        TournamentRepo repository = mock(TournamentRepo.class);
+        TournamentCalendar calendar = new TournamentCalendar(repository, 60_000);
+        assertFalse(calendar.isFresh());
+
+        when(repository.findCalendarRowsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            // Committed while the chunk was being read: a newer version of 1 and the deletion of 2
+            calendar.put(full(row(1, MONDAY, MONDAY, "Clovelly", 2)));
+            calendar.remove(2L);
+            return List.of(row(1, MONDAY, MONDAY, "Clovelly", 1), row(2, MONDAY, MONDAY, "Bally Haly", 1));
+        });
+        calendar.reload();
+
+        assertTrue(calendar.isFresh());
+        assertEquals(1, calendar.size());
+        assertEquals(List.of(), calendar.open());
+    }
+
+    private static TournamentCalendar loaded(List<TournamentRepo.CalendarRow> rows) {
+        TournamentRepo repository = mock(TournamentRepo.class);
+        when(repository.findCalendarRowsAfter(anyLong(), any(Pageable.class))).thenReturn(rows);
+        TournamentCalendar calendar = new TournamentCalendar(repository, 60_000);
+        calendar.reload();
+        return calendar;
+    }
+
+    private static List<Long> ids(List<TournamentSummary> summaries) {
+        return summaries.stream().map(TournamentSummary::getId).toList();
+    }
+
+    private static Row row(long id, LocalDate start, LocalDate end, String location, long version) {
+        return new Row(id, start, end, location, 0, version);
+    }
+
+    private static Row full(Row row) {
+        return new Row(row.id, row.startDate, row.endDate, row.location, 100, row.version);
+    }
+
+    private static class Row implements TournamentRepo.CalendarRow {
+        private final Long id;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final String location;
+        private final int participantCount;
+        private final Long version;
+
+        Row(long id, LocalDate startDate, LocalDate endDate, String location, int participantCount, long version) {
+            this.id = id;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.location = location;
+            this.participantCount = participantCount;
+            this.version = version;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public Double getEntryFee() {
+            return 100.0;
+        }
+
+        public Double getCashPrizeAmount() {
+            return 1000.0;
+        }
+
+        public Tournament.TournamentStatus getStatus() {
+            return Tournament.TournamentStatus.SCHEDULED;
+        }
+
+        public Integer getMinimumParticipants() {
+            return 2;
+        }
+
+        public Integer getMaximumParticipants() {
+            return 100;
+        }
+
+        public Integer getParticipantCount() {
+            return participantCount;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+    }
+}
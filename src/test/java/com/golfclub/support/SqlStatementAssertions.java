@@ -0,0 +1,27 @@
+package com.golfclub.support;
+
+import com.golfclub.metrics.RequestQueryStats;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Counts the JDBC statements an action runs on the calling thread. MockMvc dispatches on the test thread,
+// so wrapping a perform(...) call measures the whole request, serialization included.
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static RequestQueryStats measure(Executable action) throws Throwable {
+        try (RequestQueryStats stats = RequestQueryStats.start()) {
+            action.execute();
+            return stats;
+        }
+    }
+
+    public static void assertMaxStatements(int maxStatements, Executable action) throws Throwable {
+        RequestQueryStats stats = measure(action);
+        assertTrue(stats.getStatements() <= maxStatements,
+                "expected at most " + maxStatements + " SQL statements but " + stats.getStatements() + " ran");
+    }
+}